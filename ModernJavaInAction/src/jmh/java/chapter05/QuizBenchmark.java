@@ -0,0 +1,187 @@
+package chapter05;
+
+import chapter06.SketchCollectors;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+
+// Quiz 의 질의를 거래 수를 늘려가며 측정한다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class QuizBenchmark {
+    private static final String[] CITIES = {"Cambridge", "Milan", "Seoul", "Paris", "Berlin", "Tokyo", "London", "Busan"};
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Transaction> transactions;
+    private TransactionStore.Snapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        transactions = transactions(size, 42);
+        snapshot = TransactionStore.of(transactions).snapshot();
+    }
+
+    static List<Transaction> transactions(int size, long seed) {
+        Random random = new Random(seed);
+        List<Trader> traders = new ArrayList<>();
+        for (int i = 0; i < Math.max(4, size / 100); i++) {
+            traders.add(new Trader("Trader" + i, CITIES[random.nextInt(CITIES.length)]));
+        }
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new Transaction(traders.get(random.nextInt(traders.size())),
+                    2010 + random.nextInt(5), random.nextInt(1_000_000)));
+        }
+        return transactions;
+    }
+
+    @Benchmark
+    public List<Transaction> q1TransactionsIn2011SortedByValue() {
+        return transactions.stream()
+                .filter(t -> t.getYear() == 2011)
+                .sorted(comparing(Transaction::getValue))
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> q2DistinctCities() {
+        return transactions.stream()
+                .map(t -> t.getTrader().getCity())
+                .distinct()
+                .toList();
+    }
+
+    @Benchmark
+    public List<Trader> q3TradersInCambridgeSortedByName() {
+        return transactions.stream()
+                .map(Transaction::getTrader)
+                .filter(t -> "Cambridge".equals(t.getCity()))
+                .distinct()
+                .sorted(comparing(Trader::getName))
+                .toList();
+    }
+
+    @Benchmark
+    public String q4TraderNamesSorted() {
+        return transactions.stream()
+                .map(t -> t.getTrader().getName())
+                .distinct()
+                .sorted()
+                .reduce("", String::concat);
+    }
+
+    @Benchmark
+    public String q4TraderNamesJoined() {
+        return transactions.stream()
+                .map(t -> t.getTrader().getName())
+                .distinct()
+                .sorted()
+                .collect(joining());
+    }
+
+    @Benchmark
+    public boolean q5AnyTraderInMilan() {
+        return transactions.stream()
+                .anyMatch(t -> "Milan".equals(t.getTrader().getCity()));
+    }
+
+    @Benchmark
+    public List<Integer> q6ValuesInCambridge() {
+        return transactions.stream()
+                .filter(t -> "Cambridge".equals(t.getTrader().getCity()))
+                .map(Transaction::getValue)
+                .toList();
+    }
+
+    @Benchmark
+    public int q7MaxValue() {
+        return transactions.stream()
+                .mapToInt(Transaction::getValue)
+                .reduce(Integer.MIN_VALUE, Integer::max);
+    }
+
+    @Benchmark
+    public List<Transaction> top10BySorting() {
+        return transactions.stream()
+                .sorted(comparing(Transaction::getValue).reversed())
+                .limit(10)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Transaction> top10ByHeap() {
+        return transactions.stream()
+                .collect(SketchCollectors.topK(10, comparing(Transaction::getValue)));
+    }
+
+    @Benchmark
+    public int p99BySorting() {
+        int[] values = transactions.stream().mapToInt(Transaction::getValue).sorted().toArray();
+        return values[(int) Math.ceil(values.length * 0.99) - 1];
+    }
+
+    @Benchmark
+    public double p99BySketch() {
+        return transactions.stream()
+                .collect(SketchCollectors.quantiles(Transaction::getValue))
+                .quantile(0.99);
+    }
+
+    @Benchmark
+    public int q8MinValue() {
+        return transactions.stream()
+                .mapToInt(Transaction::getValue)
+                .reduce(Integer.MAX_VALUE, Integer::min);
+    }
+
+    // 색인을 만드는 비용과 색인된 스냅숏에 대한 질의를 따로 잰다.
+    @Benchmark
+    public TransactionStore.Snapshot storeBuild() {
+        return TransactionStore.of(transactions).snapshot();
+    }
+
+    @Benchmark
+    public List<Transaction> storeQ1TransactionsIn2011() {
+        return snapshot.transactionsIn(2011);
+    }
+
+    @Benchmark
+    public List<Trader> storeQ3TradersInCambridge() {
+        return snapshot.tradersIn("Cambridge");
+    }
+
+    @Benchmark
+    public String storeQ4TraderNames() {
+        return String.join("", snapshot.traderNames());
+    }
+
+    @Benchmark
+    public boolean storeQ5AnyTraderInMilan() {
+        return snapshot.anyTraderIn("Milan");
+    }
+
+    @Benchmark
+    public int[] storeQ6ValuesInCambridge() {
+        return snapshot.valuesIn("Cambridge");
+    }
+
+    @Benchmark
+    public int storeQ7MaxValue() {
+        return snapshot.maxValue().getAsInt();
+    }
+
+    @Benchmark
+    public List<Transaction> storeTop10() {
+        return snapshot.topByValue(10);
+    }
+}
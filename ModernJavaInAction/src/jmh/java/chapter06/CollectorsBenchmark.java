@@ -0,0 +1,97 @@
+package chapter06;
+
+import chapter04.Dish;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class CollectorsBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Dish> menu;
+
+    @Setup
+    public void setUp() {
+        menu = menu(size, 42);
+    }
+
+    static List<Dish> menu(int size, long seed) {
+        Random random = new Random(seed);
+        Dish.Type[] types = Dish.Type.values();
+        List<Dish> menu = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            menu.add(new Dish("dish" + i, random.nextBoolean(), random.nextInt(1000), types[random.nextInt(types.length)]));
+        }
+        return menu;
+    }
+
+    @Benchmark
+    public Map<Dish.Type, List<Dish>> groupingByType() {
+        return menu.stream().collect(groupingBy(Dish::getType));
+    }
+
+    @Benchmark
+    public Map<Dish.Type, Long> countingByType() {
+        return menu.stream().collect(groupingBy(Dish::getType, counting()));
+    }
+
+    @Benchmark
+    public Map<Client.CaloricLevel, List<Dish>> groupingByCaloricLevel() {
+        return menu.stream().collect(groupingBy(dish -> {
+            if (dish.getCalorie() <= 400) {
+                return Client.CaloricLevel.DIET;
+            } else if (dish.getCalorie() <= 700) {
+                return Client.CaloricLevel.NORMAL;
+            }
+            return Client.CaloricLevel.FAT;
+        }));
+    }
+
+    @Benchmark
+    public Map<Boolean, Map<Dish.Type, List<Dish>>> partitioningByVegetarian() {
+        return menu.stream().collect(partitioningBy(Dish::isVegetarian, groupingBy(Dish::getType)));
+    }
+
+    @Benchmark
+    public IntSummaryStatistics summarizingCalories() {
+        return menu.stream().collect(summarizingInt(Dish::getCalorie));
+    }
+
+    @Benchmark
+    public List<Dish> toListCollector() {
+        return menu.stream().collect(new ToListCollector<>());
+    }
+
+    @Benchmark
+    public List<Dish> collectorsToList() {
+        return menu.stream().collect(toList());
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> partitionPrimes() {
+        return IntStream.rangeClosed(2, size).boxed()
+                .collect(partitioningBy(candidate -> {
+                    int candidateRoot = (int) Math.sqrt((double) candidate);
+                    return IntStream.rangeClosed(2, candidateRoot).noneMatch(i -> candidate % i == 0);
+                }));
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> primeNumbersCollector() {
+        return IntStream.rangeClosed(2, size).boxed()
+                .collect(new PrimeNumbersCollector());
+    }
+}
@@ -0,0 +1,74 @@
+package chapter06;
+
+import chapter04.Dish;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.*;
+
+// -prof gc 의 gc.alloc.rate.norm 으로 요소 수와 무관하게 할당량이 일정한지 확인한다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms8G", "-Xmx8G"})
+@State(Scope.Benchmark)
+public class EnumGroupingBenchmark {
+    private static final String[] NAMES = {"pork", "beef", "chicken", "french fries", "rice", "season fruit", "pizza", "prawns", "salmon"};
+
+    @Param({"1000000", "100000000"})
+    private int size;
+
+    private List<Dish> menu;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Dish.Type[] types = Dish.Type.values();
+        menu = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            menu.add(new Dish(NAMES[random.nextInt(NAMES.length)], random.nextBoolean(), random.nextInt(1000),
+                    types[random.nextInt(types.length)]));
+        }
+    }
+
+    @Benchmark
+    public Map<Dish.Type, Long> groupingByCounting() {
+        return menu.stream().collect(groupingBy(Dish::getType, counting()));
+    }
+
+    @Benchmark
+    public EnumLongMap<Dish.Type> enumCountingBy() {
+        return menu.stream().collect(EnumCollectors.countingBy(Dish.Type.class, Dish::getType));
+    }
+
+    @Benchmark
+    public Map<Dish.Type, Integer> groupingBySummingInt() {
+        return menu.stream().collect(groupingBy(Dish::getType, summingInt(Dish::getCalorie)));
+    }
+
+    @Benchmark
+    public EnumLongMap<Dish.Type> enumSummingBy() {
+        return menu.stream().collect(EnumCollectors.summingBy(Dish.Type.class, Dish::getType, Dish::getCalorie));
+    }
+
+    @Benchmark
+    public Map<Dish.Type, Map<Client.CaloricLevel, Long>> twoLevelGroupingBy() {
+        return menu.stream().collect(groupingBy(Dish::getType, groupingBy(Client.CaloricLevel::of, counting())));
+    }
+
+    @Benchmark
+    public EnumLongMatrix<Dish.Type, Client.CaloricLevel> enumMatrixCountingBy() {
+        return menu.stream().collect(EnumCollectors.countingBy(Dish.Type.class, Dish::getType,
+                Client.CaloricLevel.class, Client.CaloricLevel::of));
+    }
+
+    @Benchmark
+    public EnumLongMatrix<Dish.Type, Client.CaloricLevel> enumMatrixCountingByParallel() {
+        return menu.parallelStream().collect(EnumCollectors.countingBy(Dish.Type.class, Dish::getType,
+                Client.CaloricLevel.class, Client.CaloricLevel::of));
+    }
+}
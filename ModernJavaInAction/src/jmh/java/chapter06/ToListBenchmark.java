@@ -0,0 +1,50 @@
+package chapter06;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// 원본 리스트 1억 개와 결과 리스트가 함께 올라가므로 힙을 넉넉히 잡는다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms12G", "-Xmx12G"})
+@State(Scope.Benchmark)
+public class ToListBenchmark {
+    @Param({"1000000", "10000000", "100000000"})
+    private int size;
+
+    private List<Integer> source;
+
+    @Setup
+    public void setUp() {
+        source = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> collectorsToList() {
+        return source.parallelStream().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> streamToList() {
+        return source.parallelStream().toList();
+    }
+
+    @Benchmark
+    public List<Integer> orderedToList() {
+        return source.parallelStream().collect(new OrderedToListCollector<>());
+    }
+
+    @Benchmark
+    public List<Integer> concurrentToList() {
+        return source.parallelStream().unordered().collect(new ConcurrentToListCollector<>());
+    }
+
+    @Benchmark
+    public List<Integer> toListCollector() {
+        return source.parallelStream().collect(new ToListCollector<>());
+    }
+}
@@ -0,0 +1,51 @@
+package chapter07;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// 10억 개의 long 배열은 8GB 이므로 힙을 넉넉히 잡는다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms12G", "-Xmx12G"})
+@State(Scope.Benchmark)
+public class ParallelReductionBenchmark {
+    @Param({"10000000", "100000000", "1000000000"})
+    private int size;
+
+    private long[] numbers;
+
+    @Setup
+    public void setUp() {
+        numbers = new long[size];
+        Arrays.parallelSetAll(numbers, i -> i + 1);
+    }
+
+    @Benchmark
+    public long rangeClosedParallelSum() {
+        return LongStream.rangeClosed(1, size).parallel().sum();
+    }
+
+    @Benchmark
+    public long arrayParallelStreamSum() {
+        return LongStream.of(numbers).parallel().sum();
+    }
+
+    @Benchmark
+    public long forkJoinSumCalculator() {
+        return ForkJoinPool.commonPool().invoke(new ForkJoinSumCalculator(numbers));
+    }
+
+    @Benchmark
+    public long parallelReductionSum() {
+        return ParallelReduction.sum(numbers);
+    }
+
+    @Benchmark
+    public long parallelReductionCustom() {
+        return ParallelReduction.reduce(numbers, 0L, Long::sum);
+    }
+}
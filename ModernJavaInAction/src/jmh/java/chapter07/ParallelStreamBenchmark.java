@@ -2,7 +2,9 @@ package chapter07;
 
 import org.openjdk.jmh.annotations.*;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 @BenchmarkMode(Mode.AverageTime)
@@ -10,7 +12,15 @@ import java.util.stream.Stream;
 @Fork(value = 2, jvmArgs = {"-Xms4G", "-Xmx4G"})
 @State(Scope.Benchmark)
 public class ParallelStreamBenchmark {
-    private static final long N = 10_000_000L;
+    @Param({"1000000", "10000000"})
+    private long n;
+
+    private long[] numbers;
+
+    @Setup
+    public void setUp() {
+        numbers = LongStream.rangeClosed(1, n).toArray();
+    }
 
     @Benchmark
     public long sequentialSum() {
@@ -19,10 +29,45 @@ public class ParallelStreamBenchmark {
         // 또한 iterate 는 연산의 분할이 불가능하기 때문에 parallel 을 이용하면 성능이 오히려 나빠진다.(스레드의 생성 비용)
         // 반면 rangeClosed 는 연산의 분할이 가능하기 때문에 성능이 좋다.
         return Stream.iterate(1L, i -> i + 1)
-                .limit(N)
+                .limit(n)
+                .reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return Stream.iterate(1L, i -> i + 1)
+                .limit(n)
+                .parallel()
+                .reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long iterativeSum() {
+        long result = 0;
+        for (long i = 1L; i <= n; i++) {
+            result += i;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long rangedSum() {
+        return LongStream.rangeClosed(1, n)
                 .reduce(0L, Long::sum);
     }
 
+    @Benchmark
+    public long parallelRangedSum() {
+        return LongStream.rangeClosed(1, n)
+                .parallel()
+                .reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long forkJoinSum() {
+        return ForkJoinPool.commonPool().invoke(new ForkJoinSumCalculator(numbers));
+    }
+
     @TearDown(Level.Invocation)
     public void tearDown() {
         System.gc();
@@ -0,0 +1,68 @@
+package chapter07;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@State(Scope.Benchmark)
+public class WordCountBenchmark {
+    private static final String[] WORDS = {"Nel", "mezzo", "del", "cammin", "di", "nostra", "vita"};
+
+    @Param({"10000", "1000000", "10000000"})
+    private int length;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? "   " : " ");
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public int iterative() {
+        return WordCounterClient.countWordsIteratively(text);
+    }
+
+    @Benchmark
+    public int boxedReduce() {
+        return IntStream.range(0, text.length())
+                .mapToObj(text::charAt)
+                .reduce(new WordCounter(0, true), WordCounter::accumulate, WordCounter::combine)
+                .getCounter();
+    }
+
+    @Benchmark
+    public int boxedSpliteratorParallel() {
+        return StreamSupport.stream(new WordCounterSpliterator(text), true)
+                .reduce(new WordCounter(0, true), WordCounter::accumulate, WordCounter::combine)
+                .getCounter();
+    }
+
+    @Benchmark
+    public int intStreamCollect() {
+        return text.chars()
+                .collect(WordCount::new, WordCount::accept, WordCount::combine)
+                .getCount();
+    }
+
+    @Benchmark
+    public int charSpliteratorSequential() {
+        return WordCount.count(text, false);
+    }
+
+    @Benchmark
+    public int charSpliteratorParallel() {
+        return WordCount.count(text, true);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
 
 public class Quiz {
     public static void main(String[] args) {
@@ -36,6 +37,17 @@ public class Quiz {
         Q7(transactions);
 
         Q8(transactions);
+
+        // 같은 질의를 인덱스가 있는 저장소의 스냅숏으로 처리한다.
+        TransactionStore.Snapshot snapshot = TransactionStore.of(transactions).snapshot();
+        System.out.println("A1 = " + snapshot.transactionsIn(2011));
+        System.out.println("A2 = " + snapshot.cities());
+        System.out.println("A3 = " + snapshot.tradersIn("Cambridge"));
+        System.out.println("A4 = " + String.join("", snapshot.traderNames()));
+        System.out.println("A5 = " + snapshot.anyTraderIn("Milan"));
+        System.out.println("A6 = " + Arrays.toString(snapshot.valuesIn("Cambridge")));
+        System.out.println("A7 = " + snapshot.maxValue().getAsInt());
+        System.out.println("A8 = " + snapshot.minValue().getAsInt());
     }
 
     private static void Q8(List<Transaction> transactions) {
@@ -78,7 +90,7 @@ public class Quiz {
                 .map(t -> t.getTrader().getName())
                 .distinct()
                 .sorted()
-                .reduce("", String::concat);
+                .collect(joining());
 //                .toList();
         System.out.println("A4 = " + A4);
     }
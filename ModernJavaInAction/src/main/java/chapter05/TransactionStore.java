@@ -0,0 +1,272 @@
+package chapter05;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 거래를 추가만 하는 저장소. 연도, 도시, 거래자 이름별 인덱스를 함께 유지한다.
+// 인덱스는 int 배열에 뒤로만 덧붙이고 배열이 차면 새 배열로 옮기므로,
+// (배열, 길이) 를 잡아 둔 스냅숏은 이후 추가와 상관없이 그대로 읽을 수 있다.
+// 값 순서 인덱스는 스냅숏이 락 없이 만들어 불변 객체로 공개하므로 질의는 추가와 서로 기다리지 않는다.
+public class TransactionStore {
+    private Transaction[] transactions = new Transaction[16];
+    private int[] values = new int[16];
+    private int size;
+    private int minValue = Integer.MAX_VALUE;
+    private int maxValue = Integer.MIN_VALUE;
+
+    private final Map<Integer, IntList> byYear = new HashMap<>();
+    private final Map<String, IntList> byCity = new LinkedHashMap<>();
+    private final Map<String, IntList> byTraderName = new HashMap<>();
+    private final Map<String, List<Trader>> tradersByCity = new HashMap<>();
+    private final Set<Trader> traders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final AtomicReference<ValueOrder> allByValue = new AtomicReference<>(ValueOrder.EMPTY);
+    private volatile Snapshot snapshot;
+
+    public static TransactionStore of(Collection<Transaction> transactions) {
+        TransactionStore store = new TransactionStore();
+        store.appendAll(transactions);
+        return store;
+    }
+
+    public synchronized void append(Transaction transaction) {
+        if (size == transactions.length) {
+            transactions = Arrays.copyOf(transactions, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int id = size;
+        transactions[id] = transaction;
+        values[id] = transaction.getValue();
+        size++;
+        minValue = Math.min(minValue, transaction.getValue());
+        maxValue = Math.max(maxValue, transaction.getValue());
+
+        Trader trader = transaction.getTrader();
+        byYear.computeIfAbsent(transaction.getYear(), year -> new IntList()).add(id);
+        byCity.computeIfAbsent(trader.getCity(), city -> new IntList()).add(id);
+        byTraderName.computeIfAbsent(trader.getName(), name -> new IntList()).add(id);
+        if (traders.add(trader)) {
+            tradersByCity.computeIfAbsent(trader.getCity(), city -> new ArrayList<>()).add(trader);
+        }
+        snapshot = null;
+    }
+
+    public synchronized void appendAll(Collection<Transaction> transactions) {
+        for (Transaction transaction : transactions) {
+            append(transaction);
+        }
+    }
+
+    // 추가가 없었다면 같은 스냅숏을 재사용한다. 만드는 비용은 거래 수가 아니라 인덱스 키 수에 비례한다.
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = new Snapshot(this);
+            }
+            return snapshot;
+        }
+    }
+
+    private static int[] range(int from, int to) {
+        int[] ids = new int[to - from];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = from + i;
+        }
+        return ids;
+    }
+
+    // (값, id) 를 하나의 long 으로 묶어 정렬하면 박싱 없이 값 순서, 같은 값이면 추가 순서로 정렬된다.
+    private static int[] sortByValue(int[] values, int[] ids) {
+        long[] keys = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            keys[i] = ((long) values[ids[i]] << 32) | ids[i];
+        }
+        Arrays.sort(keys);
+        int[] sorted = new int[ids.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[i] = (int) keys[i];
+        }
+        return sorted;
+    }
+
+    // postings 의 앞 covered 개를 (값, id) 순서로 정렬한 불변 인덱스
+    private static class ValueOrder {
+        static final ValueOrder EMPTY = new ValueOrder(new int[0], 0);
+
+        private final int[] ids;
+        private final int covered;
+
+        ValueOrder(int[] ids, int covered) {
+            this.ids = ids;
+            this.covered = covered;
+        }
+
+        // 새로 덧붙은 부분만 정렬해서 병합한다. 새 id 는 모두 기존 id 보다 크므로 같은 값이면 기존 것이 앞에 온다.
+        // postings 가 null 이면 0 부터 length - 1 까지의 모든 id 를 뜻한다.
+        ValueOrder extend(int[] values, int[] postings, int length) {
+            int[] tail = postings == null ? range(covered, length) : Arrays.copyOfRange(postings, covered, length);
+            int[] added = sortByValue(values, tail);
+            int[] merged = new int[ids.length + added.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < ids.length && j < added.length) {
+                merged[k++] = values[ids[i]] <= values[added[j]] ? ids[i++] : added[j++];
+            }
+            while (i < ids.length) {
+                merged[k++] = ids[i++];
+            }
+            while (j < added.length) {
+                merged[k++] = added[j++];
+            }
+            return new ValueOrder(merged, length);
+        }
+    }
+
+    private static class IntList {
+        private final AtomicReference<ValueOrder> byValue = new AtomicReference<>(ValueOrder.EMPTY);
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    public static class Snapshot {
+        private final TransactionStore store;
+        private final Transaction[] transactions;
+        private final int[] values;
+        private final int size;
+        private final int minValue;
+        private final int maxValue;
+        private final Map<Integer, Postings> byYear = new HashMap<>();
+        private final Map<String, Postings> byCity = new LinkedHashMap<>();
+        private final List<String> traderNames;
+        private final Map<String, List<Trader>> tradersByCity = new HashMap<>();
+
+        private Snapshot(TransactionStore store) {
+            this.store = store;
+            this.transactions = store.transactions;
+            this.values = store.values;
+            this.size = store.size;
+            this.minValue = store.minValue;
+            this.maxValue = store.maxValue;
+            store.byYear.forEach((year, ids) -> byYear.put(year, new Postings(ids)));
+            store.byCity.forEach((city, ids) -> byCity.put(city, new Postings(ids)));
+            this.traderNames = new ArrayList<>(store.byTraderName.keySet());
+            store.tradersByCity.forEach((city, list) -> tradersByCity.put(city, List.copyOf(list)));
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Q1: 특정 연도의 거래를 값 오름차순으로. 연도별 값 순서 인덱스를 그대로 읽는다.
+        public List<Transaction> transactionsIn(int year) {
+            Postings postings = byYear.get(year);
+            if (postings == null) {
+                return List.of();
+            }
+            ValueOrder order = valueOrder(postings.byValue, postings.ids, postings.length);
+            List<Transaction> result = new ArrayList<>(postings.length);
+            for (int id : order.ids) {
+                if (id < size) {
+                    result.add(transactions[id]);
+                }
+            }
+            return result;
+        }
+
+        // Q2: 거래자가 근무하는 도시를 처음 나온 순서대로
+        public List<String> cities() {
+            return List.copyOf(byCity.keySet());
+        }
+
+        // Q3: 도시의 거래자를 이름순으로
+        public List<Trader> tradersIn(String city) {
+            List<Trader> traders = new ArrayList<>(tradersByCity.getOrDefault(city, List.of()));
+            traders.sort(Comparator.comparing(Trader::getName));
+            return traders;
+        }
+
+        // Q4: 거래자 이름을 알파벳순으로
+        public List<String> traderNames() {
+            List<String> names = new ArrayList<>(traderNames);
+            Collections.sort(names);
+            return names;
+        }
+
+        // Q5: 도시에 거래자가 있는가
+        public boolean anyTraderIn(String city) {
+            return byCity.containsKey(city);
+        }
+
+        // Q6: 도시에 사는 거래자의 거래값을 추가 순서대로
+        public int[] valuesIn(String city) {
+            Postings postings = byCity.get(city);
+            if (postings == null) {
+                return new int[0];
+            }
+            int[] result = new int[postings.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = values[postings.ids[i]];
+            }
+            return result;
+        }
+
+        // Q7, Q8: 최댓값과 최솟값
+        public OptionalInt maxValue() {
+            return size == 0 ? OptionalInt.empty() : OptionalInt.of(maxValue);
+        }
+
+        public OptionalInt minValue() {
+            return size == 0 ? OptionalInt.empty() : OptionalInt.of(minValue);
+        }
+
+        // 값 순서 인덱스에서 상위 k 개를 큰 값부터 꺼낸다.
+        public List<Transaction> topByValue(int k) {
+            int[] ordered = valueOrder(store.allByValue, null, size).ids;
+            List<Transaction> result = new ArrayList<>(Math.min(k, size));
+            for (int i = ordered.length - 1; i >= 0 && result.size() < k; i--) {
+                if (ordered[i] < size) {
+                    result.add(transactions[ordered[i]]);
+                }
+            }
+            return result;
+        }
+
+        // 다른 스냅숏이 이미 더 많이 정렬해 두었다면 그대로 쓰고, 모자라면 이 스냅숏의 배열로 뒷부분만 정렬해 공개한다.
+        // 더 새로운 스냅숏이 공개한 인덱스에는 이 스냅숏 이후의 id 가 섞여 있으므로 읽는 쪽에서 id < size 로 거른다.
+        private ValueOrder valueOrder(AtomicReference<ValueOrder> published, int[] postings, int length) {
+            ValueOrder current = published.get();
+            if (current.covered >= length) {
+                return current;
+            }
+            ValueOrder extended = current.extend(values, postings, length);
+            while (current.covered < length && !published.compareAndSet(current, extended)) {
+                current = published.get();
+            }
+            return extended;
+        }
+    }
+
+    private static class Postings {
+        private final int[] ids;
+        private final int length;
+        private final AtomicReference<ValueOrder> byValue;
+
+        Postings(IntList list) {
+            this.ids = list.ids;
+            this.length = list.size;
+            this.byValue = list.byValue;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package chapter06;
+
+import java.util.Arrays;
+
+// 요소를 청크 배열에 이어 붙인다. 청크가 가득 차도 기존 요소를 옮기지 않고 두 배 크기의 새 청크를 단다.
+class ChunkBuffer<T> {
+    private static final int FIRST_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 1 << 16;
+
+    private Object[][] chunks = new Object[4][];
+    private int[] chunkSizes = new int[4];
+    private int chunkCount;
+    private Object[] current;
+    private int currentSize;
+    private int nextChunkSize = FIRST_CHUNK_SIZE;
+    private long size;
+
+    void add(T item) {
+        if (current == null || currentSize == current.length) {
+            seal();
+            current = new Object[nextChunkSize];
+            nextChunkSize = Math.min(MAX_CHUNK_SIZE, nextChunkSize * 2);
+        }
+        current[currentSize++] = item;
+        size++;
+    }
+
+    // 다른 버퍼의 청크를 복사하지 않고 뒤에 잇는다.
+    void link(ChunkBuffer<T> other) {
+        seal();
+        other.seal();
+        for (int i = 0; i < other.chunkCount; i++) {
+            append(other.chunks[i], other.chunkSizes[i]);
+        }
+        size += other.size;
+    }
+
+    long size() {
+        return size;
+    }
+
+    ChunkedList<T> toList() {
+        seal();
+        return new ChunkedList<>(Arrays.copyOf(chunks, chunkCount), Arrays.copyOf(chunkSizes, chunkCount));
+    }
+
+    private void seal() {
+        if (currentSize > 0) {
+            append(current, currentSize);
+        }
+        current = null;
+        currentSize = 0;
+    }
+
+    private void append(Object[] chunk, int chunkSize) {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            chunkSizes = Arrays.copyOf(chunkSizes, chunkCount * 2);
+        }
+        chunks[chunkCount] = chunk;
+        chunkSizes[chunkCount++] = chunkSize;
+    }
+}
@@ -0,0 +1,69 @@
+package chapter06;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+// 청크 배열들을 복사하지 않고 하나의 읽기 전용 리스트로 보여준다.
+class ChunkedList<T> extends AbstractList<T> implements RandomAccess {
+    private final Object[][] chunks;
+    private final int[] chunkSizes;
+    // offsets[i] 는 i 번째 청크의 첫 요소가 리스트에서 갖는 인덱스다.
+    private final int[] offsets;
+    private final int size;
+
+    ChunkedList(Object[][] chunks, int[] chunkSizes) {
+        this.chunks = chunks;
+        this.chunkSizes = chunkSizes;
+        this.offsets = new int[chunks.length];
+        long total = 0;
+        for (int i = 0; i < chunks.length; i++) {
+            offsets[i] = (int) total;
+            total += chunkSizes[i];
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("too many elements for a list: " + total);
+        }
+        this.size = (int) total;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int chunk = Arrays.binarySearch(offsets, index);
+        if (chunk < 0) {
+            chunk = -chunk - 2;
+        }
+        // 크기가 0 인 청크는 없으므로 같은 오프셋이 두 번 나오지 않는다.
+        return (T) chunks[chunk][index - offsets[chunk]];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < chunks.length; i++) {
+            Object[] chunk = chunks[i];
+            for (int j = 0; j < chunkSizes[i]; j++) {
+                action.accept((T) chunk[j]);
+            }
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < chunks.length; i++) {
+            System.arraycopy(chunks[i], 0, array, offsets[i], chunkSizes[i]);
+        }
+        return array;
+    }
+}
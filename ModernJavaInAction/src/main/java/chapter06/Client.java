@@ -11,7 +11,16 @@ import static java.util.stream.Collectors.*;
 
 public class Client {
     public enum CaloricLevel {
-        DIET, NORMAL, FAT
+        DIET, NORMAL, FAT;
+
+        public static CaloricLevel of(Dish dish) {
+            if (dish.getCalorie() <= 400) {
+                return DIET;
+            } else if (dish.getCalorie() <= 700) {
+                return NORMAL;
+            }
+            return FAT;
+        }
     }
     public static void main(String[] args) {
         List<Dish> menu = of(
@@ -105,12 +114,30 @@ public class Client {
         Map<Dish.Type, Long> typeCount = menu.stream().collect(groupingBy(Dish::getType, counting()));
         System.out.println("typeCount = " + typeCount);
 
+        // 키가 enum 이면 박싱 없이 배열에 누적할 수 있다.
+        EnumLongMap<Dish.Type> enumTypeCount = menu.stream()
+                .collect(EnumCollectors.countingBy(Dish.Type.class, Dish::getType));
+        System.out.println("enumTypeCount = " + enumTypeCount);
+
+        EnumLongMatrix<Dish.Type, CaloricLevel> caloriesByTypeAndLevel = menu.stream()
+                .collect(EnumCollectors.summingBy(Dish.Type.class, Dish::getType,
+                        CaloricLevel.class, CaloricLevel::of, Dish::getCalorie));
+        System.out.println("caloriesByTypeAndLevel = " + caloriesByTypeAndLevel);
+
         Map<Dish.Type, Dish> collectionAndThen = menu.stream().collect(groupingBy(Dish::getType,
                 collectingAndThen(
                         maxBy(Comparator.comparingInt(Dish::getCalorie)),
                         Optional::get
                 )));
         System.out.println("collectionAndThen = " + collectionAndThen);
+
+        // maxBy 대신 크기 k 의 힙으로 타입별 상위 k 개를 구한다.
+        Map<Dish.Type, List<Dish>> top2ByType = menu.stream().collect(groupingBy(Dish::getType,
+                SketchCollectors.topK(2, Comparator.comparingInt(Dish::getCalorie))));
+        System.out.println("top2ByType = " + top2ByType);
+
+        QuantileSketch calorieQuantiles = menu.stream().collect(SketchCollectors.quantiles(Dish::getCalorie));
+        System.out.println("calorieQuantiles = " + calorieQuantiles);
     }
 
     private static void 리듀싱과요약(List<Dish> menu) {
@@ -0,0 +1,75 @@
+package chapter06;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import static java.util.stream.Collector.Characteristics.CONCURRENT;
+import static java.util.stream.Collector.Characteristics.UNORDERED;
+
+// CONCURRENT 컬렉터는 모든 스레드가 하나의 결과 컨테이너를 공유하므로, 스레드마다 자기 청크 버퍼에만 쓰게 한다.
+// 순서는 보장하지 않으며 결과는 청크를 이어 붙인 읽기 전용 리스트다.
+public class ConcurrentToListCollector<T> implements Collector<T, ConcurrentToListCollector.Buffers<T>, List<T>> {
+    @Override
+    public Supplier<Buffers<T>> supplier() {
+        return Buffers::new;
+    }
+
+    @Override
+    public BiConsumer<Buffers<T>, T> accumulator() {
+        return Buffers::add;
+    }
+
+    @Override
+    public BinaryOperator<Buffers<T>> combiner() {
+        return Buffers::merge;
+    }
+
+    @Override
+    public Function<Buffers<T>, List<T>> finisher() {
+        return Buffers::toList;
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.unmodifiableSet(EnumSet.of(CONCURRENT, UNORDERED));
+    }
+
+    // 스레드별 버퍼는 이 컨테이너에서만 참조한다. ThreadLocal 에 두면 워커 스레드가 수집이 끝난 뒤에도 청크를 붙잡고 있다.
+    public static class Buffers<T> {
+        private final Map<Thread, ChunkBuffer<T>> byThread = new ConcurrentHashMap<>();
+
+        void add(T item) {
+            Thread thread = Thread.currentThread();
+            ChunkBuffer<T> buffer = byThread.get(thread);
+            if (buffer == null) {
+                buffer = byThread.computeIfAbsent(thread, t -> new ChunkBuffer<>());
+            }
+            buffer.add(item);
+        }
+
+        // 병렬이 아닌 경로에서는 컨테이너가 여럿 생기고 같은 스레드의 버퍼가 양쪽에 있을 수 있다.
+        Buffers<T> merge(Buffers<T> other) {
+            other.byThread.forEach((thread, buffer) -> byThread.merge(thread, buffer, (mine, theirs) -> {
+                mine.link(theirs);
+                return mine;
+            }));
+            other.byThread.clear();
+            return this;
+        }
+
+        // 스트림은 모든 누적이 끝난 뒤 finisher 를 호출하므로 이때는 버퍼를 쓰는 스레드가 없다.
+        List<T> toList() {
+            ChunkBuffer<T> result = new ChunkBuffer<>();
+            for (ChunkBuffer<T> buffer : byThread.values()) {
+                result.link(buffer);
+            }
+            byThread.clear();
+            return result.toList();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package chapter06;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+import static java.util.stream.Collector.Characteristics.IDENTITY_FINISH;
+import static java.util.stream.Collector.Characteristics.UNORDERED;
+
+// 키가 enum 이면 HashMap<K, Long> 대신 ordinal 로 인덱싱하는 long 배열에 바로 누적한다.
+// 분류 함수가 enum 상수를 돌려주는 한 요소마다 객체를 만들지 않는다.
+// summingInt 를 대신할 때도 long 으로 누적하므로 int 범위를 넘는 합도 넘치지 않는다.
+public class EnumCollectors {
+    private EnumCollectors() {
+    }
+
+    public static <T, K extends Enum<K>> Collector<T, ?, EnumLongMap<K>> countingBy(
+            Class<K> keyType, Function<? super T, K> classifier) {
+        return Collector.of(() -> new EnumLongMap<>(keyType),
+                (map, t) -> map.add(classifier.apply(t), 1),
+                EnumLongMap::merge,
+                IDENTITY_FINISH, UNORDERED);
+    }
+
+    public static <T, K extends Enum<K>> Collector<T, ?, EnumLongMap<K>> summingBy(
+            Class<K> keyType, Function<? super T, K> classifier, ToLongFunction<? super T> mapper) {
+        return Collector.of(() -> new EnumLongMap<>(keyType),
+                (map, t) -> map.add(classifier.apply(t), mapper.applyAsLong(t)),
+                EnumLongMap::merge,
+                IDENTITY_FINISH, UNORDERED);
+    }
+
+    public static <T, R extends Enum<R>, C extends Enum<C>> Collector<T, ?, EnumLongMatrix<R, C>> countingBy(
+            Class<R> rowType, Function<? super T, R> rowClassifier,
+            Class<C> columnType, Function<? super T, C> columnClassifier) {
+        return Collector.of(() -> new EnumLongMatrix<>(rowType, columnType),
+                (matrix, t) -> matrix.add(rowClassifier.apply(t), columnClassifier.apply(t), 1),
+                EnumLongMatrix::merge,
+                IDENTITY_FINISH, UNORDERED);
+    }
+
+    public static <T, R extends Enum<R>, C extends Enum<C>> Collector<T, ?, EnumLongMatrix<R, C>> summingBy(
+            Class<R> rowType, Function<? super T, R> rowClassifier,
+            Class<C> columnType, Function<? super T, C> columnClassifier,
+            ToLongFunction<? super T> mapper) {
+        return Collector.of(() -> new EnumLongMatrix<>(rowType, columnType),
+                (matrix, t) -> matrix.add(rowClassifier.apply(t), columnClassifier.apply(t), mapper.applyAsLong(t)),
+                EnumLongMatrix::merge,
+                IDENTITY_FINISH, UNORDERED);
+    }
+}
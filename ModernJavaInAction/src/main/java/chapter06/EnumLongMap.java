@@ -0,0 +1,53 @@
+package chapter06;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// enum 상수의 ordinal 을 인덱스로 쓰는 long 배열. 누적하는 동안 박싱이나 해시 조회가 없다.
+public class EnumLongMap<K extends Enum<K>> {
+    private final Class<K> keyType;
+    private final K[] keys;
+    private final long[] values;
+
+    public EnumLongMap(Class<K> keyType) {
+        this.keyType = keyType;
+        this.keys = keyType.getEnumConstants();
+        this.values = new long[keys.length];
+    }
+
+    void add(K key, long value) {
+        values[key.ordinal()] += value;
+    }
+
+    EnumLongMap<K> merge(EnumLongMap<K> other) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] += other.values[i];
+        }
+        return this;
+    }
+
+    public long get(K key) {
+        return values[key.ordinal()];
+    }
+
+    public Class<K> getKeyType() {
+        return keyType;
+    }
+
+    // groupingBy 와 같은 모양이 필요할 때만 박싱한다. 키가 나왔는지는 따로 기록하지 않으므로,
+    // includeZero 가 false 면 한 번도 나오지 않은 키뿐 아니라 합이 0 이 된 키도 빠진다.
+    public Map<K, Long> toEnumMap(boolean includeZero) {
+        Map<K, Long> map = new EnumMap<>(keyType);
+        for (K key : keys) {
+            if (includeZero || values[key.ordinal()] != 0) {
+                map.put(key, values[key.ordinal()]);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toEnumMap(true).toString();
+    }
+}
@@ -0,0 +1,60 @@
+package chapter06;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 두 enum 의 조합을 row * columnCount + column 위치에 두는 평평한 long 배열.
+public class EnumLongMatrix<R extends Enum<R>, C extends Enum<C>> {
+    private final Class<R> rowType;
+    private final Class<C> columnType;
+    private final R[] rows;
+    private final C[] columns;
+    private final long[] values;
+
+    public EnumLongMatrix(Class<R> rowType, Class<C> columnType) {
+        this.rowType = rowType;
+        this.columnType = columnType;
+        this.rows = rowType.getEnumConstants();
+        this.columns = columnType.getEnumConstants();
+        this.values = new long[rows.length * columns.length];
+    }
+
+    void add(R row, C column, long value) {
+        values[row.ordinal() * columns.length + column.ordinal()] += value;
+    }
+
+    EnumLongMatrix<R, C> merge(EnumLongMatrix<R, C> other) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] += other.values[i];
+        }
+        return this;
+    }
+
+    public long get(R row, C column) {
+        return values[row.ordinal() * columns.length + column.ordinal()];
+    }
+
+    public EnumLongMap<C> row(R row) {
+        EnumLongMap<C> map = new EnumLongMap<>(columnType);
+        for (C column : columns) {
+            map.add(column, get(row, column));
+        }
+        return map;
+    }
+
+    public Map<R, Map<C, Long>> toEnumMap(boolean includeZero) {
+        Map<R, Map<C, Long>> map = new EnumMap<>(rowType);
+        for (R row : rows) {
+            Map<C, Long> columnMap = row(row).toEnumMap(includeZero);
+            if (includeZero || !columnMap.isEmpty()) {
+                map.put(row, columnMap);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toEnumMap(true).toString();
+    }
+}
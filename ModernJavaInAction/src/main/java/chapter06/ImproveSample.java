@@ -9,5 +9,14 @@ public class ImproveSample {
         Map<Boolean, List<Integer>> improvePrimeNumber = IntStream.rangeClosed(2, 100).boxed()
                 .collect(new PrimeNumbersCollector());
         System.out.println("improvePrimeNumber = " + improvePrimeNumber);
+
+        // 체로 판별하는 컬렉터는 병렬로 실행해도 결과가 같고 결과를 기본형 배열로 돌려준다.
+        PrimePartition sievePrimeNumber = IntStream.rangeClosed(2, 100).boxed().parallel()
+                .collect(new SievePrimeNumbersCollector());
+        System.out.println("sievePrimeNumber = " + sievePrimeNumber);
+
+        long start = System.nanoTime();
+        int primeCount = PrimeSieve.of(2, 1_000_000_000).count();
+        System.out.println("primes up to 10^9 = " + primeCount + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
     }
 }
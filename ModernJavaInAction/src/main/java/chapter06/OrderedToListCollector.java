@@ -0,0 +1,44 @@
+package chapter06;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// 구간마다 청크 버퍼에 모으고 combiner 에서는 청크만 이어 붙인다.
+// 마지막에 전체 크기를 알고 있으므로 딱 맞는 크기의 배열로 한 번만 복사한다.
+public class OrderedToListCollector<T> implements Collector<T, ChunkBuffer<T>, List<T>> {
+    @Override
+    public Supplier<ChunkBuffer<T>> supplier() {
+        return ChunkBuffer::new;
+    }
+
+    @Override
+    public BiConsumer<ChunkBuffer<T>, T> accumulator() {
+        return ChunkBuffer::add;
+    }
+
+    @Override
+    public BinaryOperator<ChunkBuffer<T>> combiner() {
+        return (buffer1, buffer2) -> {
+            buffer1.link(buffer2);
+            return buffer1;
+        };
+    }
+
+    @Override
+    public Function<ChunkBuffer<T>, List<T>> finisher() {
+        return buffer -> {
+            List<T> list = new ArrayList<>(Math.toIntExact(buffer.size()));
+            buffer.toList().forEach(list::add);
+            return list;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+}
@@ -27,7 +27,13 @@ public class PrimeNumbersCollector implements Collector<Integer, Map<Boolean, Li
     @Override
     public BinaryOperator<Map<Boolean, List<Integer>>> combiner() {
         return (Map<Boolean, List<Integer>> map1, Map<Boolean, List<Integer>> map2) -> {
-            map1.get(true).addAll(map2.get(true));
+            // 오른쪽 구간은 왼쪽 구간의 소수를 모른 채 판별했으므로 오른쪽의 소수를 왼쪽 소수로 다시 확인한다.
+            List<Integer> leftPrimes = map1.get(true);
+            List<Integer> rightPrimes = new ArrayList<>();
+            for (Integer candidate : map2.get(true)) {
+                (isPrime(leftPrimes, candidate) ? rightPrimes : map1.get(false)).add(candidate);
+            }
+            leftPrimes.addAll(rightPrimes);
             map1.get(false).addAll(map2.get(false));
             return map1;
         };
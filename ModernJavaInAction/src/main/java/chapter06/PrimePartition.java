@@ -0,0 +1,50 @@
+package chapter06;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 소수와 소수가 아닌 수를 입력 순서대로 기본형 배열에 담는다.
+public class PrimePartition {
+    private final int[] primes;
+    private final int[] nonPrimes;
+
+    public PrimePartition(int[] primes, int[] nonPrimes) {
+        this.primes = primes;
+        this.nonPrimes = nonPrimes;
+    }
+
+    public int[] getPrimes() {
+        return primes.clone();
+    }
+
+    public int[] getNonPrimes() {
+        return nonPrimes.clone();
+    }
+
+    public int primeCount() {
+        return primes.length;
+    }
+
+    public int nonPrimeCount() {
+        return nonPrimes.length;
+    }
+
+    // PrimeNumbersCollector 와 같은 모양의 결과가 필요할 때만 박싱한다.
+    public Map<Boolean, List<Integer>> toMap() {
+        Map<Boolean, List<Integer>> map = new HashMap<>();
+        map.put(true, Arrays.stream(primes).boxed().collect(Collectors.toList()));
+        map.put(false, Arrays.stream(nonPrimes).boxed().collect(Collectors.toList()));
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimePartition{" +
+                "primes=" + Arrays.toString(primes) +
+                ", nonPrimes=" + Arrays.toString(nonPrimes) +
+                '}';
+    }
+}
@@ -0,0 +1,140 @@
+package chapter06;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// 구간을 캐시에 들어가는 크기의 세그먼트로 나눠 병렬로 체를 친다.
+// 세그먼트는 64 의 배수로 나누므로 서로 다른 세그먼트가 같은 long 워드를 건드리지 않는다.
+public class PrimeSieve {
+    static final int SEGMENT_SIZE = 1 << 18;
+
+    private final int from;
+    private final int to;
+    private final long base;
+    private final long[] words;
+
+    private PrimeSieve(int from, int to, long base, long[] words) {
+        this.from = from;
+        this.to = to;
+        this.base = base;
+        this.words = words;
+    }
+
+    public static PrimeSieve of(int from, int to) {
+        return of(from, to, true);
+    }
+
+    public static PrimeSieve of(int from, int to, boolean parallel) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("invalid range: [" + from + ", " + to + "]");
+        }
+        long base = from & ~63L;
+        long[] words = new long[(int) ((to - base) / 64 + 1)];
+        int[] basePrimes = basePrimes((int) Math.sqrt((double) to));
+        // 워드 단위로 나눠야 to 가 Integer.MAX_VALUE 근처일 때도 int 가 넘치지 않는다.
+        int wordsPerSegment = SEGMENT_SIZE / 64;
+        int segments = (words.length + wordsPerSegment - 1) / wordsPerSegment;
+
+        IntStream indexes = IntStream.range(0, segments);
+        (parallel ? indexes.parallel() : indexes)
+                .forEach(segment -> sieveSegment(words, base, segment, basePrimes));
+
+        PrimeSieve sieve = new PrimeSieve(from, to, base, words);
+        sieve.clearOutside();
+        return sieve;
+    }
+
+    // sqrt(to) 까지의 소수는 작으므로 단순한 에라토스테네스의 체로 구한다.
+    static int[] basePrimes(int limit) {
+        if (limit < 2) {
+            return new int[0];
+        }
+        boolean[] composite = new boolean[limit + 1];
+        for (int i = 2; (long) i * i <= limit; i++) {
+            if (!composite[i]) {
+                for (int j = i * i; j <= limit; j += i) {
+                    composite[j] = true;
+                }
+            }
+        }
+        return IntStream.rangeClosed(2, limit).filter(i -> !composite[i]).toArray();
+    }
+
+    private static void sieveSegment(long[] words, long base, int segment, int[] basePrimes) {
+        int firstWord = segment * (SEGMENT_SIZE / 64);
+        int lastWord = Math.min(words.length, firstWord + SEGMENT_SIZE / 64);
+        Arrays.fill(words, firstWord, lastWord, -1L);
+
+        long low = base + firstWord * 64L;
+        long high = base + lastWord * 64L;
+        for (int prime : basePrimes) {
+            long square = (long) prime * prime;
+            if (square >= high) {
+                break;
+            }
+            long start = Math.max(square, (low + prime - 1) / prime * prime);
+            // 세그먼트 안의 오프셋은 int 범위이므로 int 로 돌려 루프를 가볍게 한다.
+            int length = (int) (high - low);
+            for (int offset = (int) (start - low); offset < length; offset += prime) {
+                words[firstWord + (offset >>> 6)] &= ~(1L << offset);
+            }
+        }
+    }
+
+    // 0, 1 과 정렬 때문에 구간 앞뒤로 더 잡힌 비트를 지운다.
+    private void clearOutside() {
+        for (long n = base; n < Math.max(from, 2); n++) {
+            clear(n);
+        }
+        for (long n = (long) to + 1; n < base + words.length * 64L; n++) {
+            clear(n);
+        }
+    }
+
+    private void clear(long n) {
+        long index = n - base;
+        words[(int) (index >>> 6)] &= ~(1L << index);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    public boolean isPrime(int n) {
+        if (n < from || n > to) {
+            throw new IllegalArgumentException(n + " is outside [" + from + ", " + to + "]");
+        }
+        long index = n - base;
+        return (words[(int) (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public void forEachPrime(IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept((int) (base + i * 64L + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] primes = new int[count()];
+        int[] size = new int[1];
+        forEachPrime(prime -> primes[size[0]++] = prime);
+        return primes;
+    }
+}
@@ -0,0 +1,214 @@
+package chapter06;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// KLL 스케치. 각 층(level)의 값은 가중치 2^level 을 가지며, 층이 가득 차면 정렬한 뒤 하나 걸러 하나씩만 위층으로 올린다.
+// 아래층일수록 용량을 2/3 씩 줄여서 전체 메모리는 O(k) 로 유지되고 순위 오차는 대략 1/k 수준이다.
+public class QuantileSketch {
+    static final int DEFAULT_K = 200;
+    private static final double SHRINK = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 8;
+
+    private final int k;
+    private final Random random;
+    private double[][] levels = new double[1][MIN_CAPACITY];
+    private int[] sizes = new int[1];
+    private int levelCount = 1;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    // quantile 이 만든 정렬된 값과 누적 가중치. add 나 merge 로 값이 바뀌면 버린다.
+    private double[] sortedValues;
+    private long[] cumulativeWeights;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        this(k, new Random(42));
+    }
+
+    QuantileSketch(int k, Random random) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_CAPACITY);
+        }
+        this.k = k;
+        this.random = random;
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN cannot be ranked");
+        }
+        sortedValues = null;
+        append(0, value);
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (sizes[0] >= capacity(0)) {
+            compress();
+        }
+    }
+
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other == this) {
+            throw new IllegalArgumentException("cannot merge a sketch into itself");
+        }
+        sortedValues = null;
+        for (int level = 0; level < other.levelCount; level++) {
+            while (levelCount <= level) {
+                addLevel();
+            }
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        compress();
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    // 0 <= q <= 1. 예를 들어 p99 는 quantile(0.99) 이다.
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be within [0, 1]: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q == 0) {
+            return min;
+        }
+        if (q == 1) {
+            return max;
+        }
+
+        if (sortedValues == null) {
+            buildSortedView();
+        }
+        double target = q * cumulativeWeights[cumulativeWeights.length - 1];
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeWeights[mid] >= target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return sortedValues[low];
+    }
+
+    // 층마다 정렬한 뒤 층들을 병합해서 값 순서의 누적 가중치를 만든다. 다음 add 나 merge 전까지 재사용한다.
+    // 층 안의 순서는 compact 가 다시 정렬하므로 제자리에서 정렬해도 된다.
+    private void buildSortedView() {
+        int retained = 0;
+        for (int level = 0; level < levelCount; level++) {
+            Arrays.sort(levels[level], 0, sizes[level]);
+            retained += sizes[level];
+        }
+        double[] values = new double[retained];
+        long[] cumulative = new long[retained];
+        int[] heads = new int[levelCount];
+        long weight = 0;
+        for (int index = 0; index < retained; index++) {
+            int next = -1;
+            for (int level = 0; level < levelCount; level++) {
+                if (heads[level] < sizes[level]
+                        && (next < 0 || levels[level][heads[level]] < levels[next][heads[next]])) {
+                    next = level;
+                }
+            }
+            values[index] = levels[next][heads[next]++];
+            weight += 1L << next;
+            cumulative[index] = weight;
+        }
+        sortedValues = values;
+        cumulativeWeights = cumulative;
+    }
+
+    private int capacity(int level) {
+        int depth = levelCount - 1 - level;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(SHRINK, depth)));
+    }
+
+    private void compress() {
+        boolean compacted;
+        do {
+            compacted = false;
+            for (int level = 0; level < levelCount; level++) {
+                if (sizes[level] >= capacity(level)) {
+                    if (level + 1 == levelCount) {
+                        addLevel();
+                    }
+                    compact(level);
+                    compacted = true;
+                }
+            }
+        } while (compacted);
+    }
+
+    // 정렬된 값 중 짝수 번째나 홀수 번째를 무작위로 골라 가중치를 두 배로 올린다. 홀수 개면 하나는 남긴다.
+    private void compact(int level) {
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        int pairs = size & ~1;
+        for (int i = random.nextBoolean() ? 1 : 0; i < pairs; i += 2) {
+            append(level + 1, items[i]);
+        }
+        if (size != pairs) {
+            items[0] = items[size - 1];
+            sizes[level] = 1;
+        } else {
+            sizes[level] = 0;
+        }
+    }
+
+    private void append(int level, double value) {
+        double[] items = levels[level];
+        if (sizes[level] == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            levels[level] = items;
+        }
+        items[sizes[level]++] = value;
+    }
+
+    private void addLevel() {
+        if (levelCount == levels.length) {
+            levels = Arrays.copyOf(levels, levelCount * 2);
+            sizes = Arrays.copyOf(sizes, levelCount * 2);
+        }
+        levels[levelCount] = new double[MIN_CAPACITY];
+        sizes[levelCount] = 0;
+        levelCount++;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{" +
+                "count=" + count +
+                ", min=" + getMin() +
+                ", p50=" + quantile(0.5) +
+                ", p99=" + quantile(0.99) +
+                ", max=" + getMax() +
+                '}';
+    }
+}
@@ -0,0 +1,130 @@
+package chapter06;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+// 누적 단계에서는 후보를 int 배열에 모으기만 하고, 판별은 모두 합친 뒤 finisher 에서 한 번에 체로 한다.
+// 그래서 어느 구간이 먼저 누적되든 결과가 같고 병렬로 실행해도 안전하다.
+public class SievePrimeNumbersCollector implements Collector<Integer, SievePrimeNumbersCollector.Candidates, PrimePartition> {
+    // 후보가 듬성듬성하면 구간 전체를 체로 치는 것보다 후보마다 시험 나눗셈하는 편이 싸다.
+    private static final int MAX_SIEVE_BITS_PER_CANDIDATE = 512;
+
+    public static PrimePartition partition(IntStream candidates) {
+        return finish(candidates.collect(Candidates::new, Candidates::add, Candidates::addAll));
+    }
+
+    @Override
+    public Supplier<Candidates> supplier() {
+        return Candidates::new;
+    }
+
+    @Override
+    public BiConsumer<Candidates, Integer> accumulator() {
+        return Candidates::add;
+    }
+
+    @Override
+    public BinaryOperator<Candidates> combiner() {
+        return (left, right) -> {
+            left.addAll(right);
+            return left;
+        };
+    }
+
+    @Override
+    public Function<Candidates, PrimePartition> finisher() {
+        return SievePrimeNumbersCollector::finish;
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    private static PrimePartition finish(Candidates candidates) {
+        int[] values = candidates.values;
+        int size = candidates.size;
+        boolean[] prime = new boolean[size];
+        int primeCount = 0;
+
+        int from = Math.max(2, candidates.min);
+        int to = candidates.max;
+        if (size > 0 && to >= from) {
+            if ((long) to - from <= (long) size * MAX_SIEVE_BITS_PER_CANDIDATE) {
+                PrimeSieve sieve = PrimeSieve.of(from, to);
+                for (int i = 0; i < size; i++) {
+                    prime[i] = values[i] >= from && sieve.isPrime(values[i]);
+                }
+            } else {
+                int[] basePrimes = PrimeSieve.basePrimes((int) Math.sqrt((double) to));
+                for (int i = 0; i < size; i++) {
+                    prime[i] = isPrime(basePrimes, values[i]);
+                }
+            }
+        }
+        for (boolean p : prime) {
+            if (p) {
+                primeCount++;
+            }
+        }
+
+        int[] primes = new int[primeCount];
+        int[] nonPrimes = new int[size - primeCount];
+        int primeIndex = 0;
+        int nonPrimeIndex = 0;
+        for (int i = 0; i < size; i++) {
+            if (prime[i]) {
+                primes[primeIndex++] = values[i];
+            } else {
+                nonPrimes[nonPrimeIndex++] = values[i];
+            }
+        }
+        return new PrimePartition(primes, nonPrimes);
+    }
+
+    private static boolean isPrime(int[] basePrimes, int candidate) {
+        if (candidate < 2) {
+            return false;
+        }
+        for (int prime : basePrimes) {
+            if ((long) prime * prime > candidate) {
+                break;
+            }
+            if (candidate % prime == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static class Candidates {
+        private int[] values = new int[16];
+        private int size;
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+
+        public void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        public void addAll(Candidates other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package chapter06;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+import static java.util.stream.Collector.Characteristics.IDENTITY_FINISH;
+import static java.util.stream.Collector.Characteristics.UNORDERED;
+
+// 전체를 정렬하지 않고 크기가 고정된 상태만 유지하는 컬렉터들. 병렬 스트림에서는 부분 결과를 합친다.
+public class SketchCollectors {
+    private SketchCollectors() {
+    }
+
+    // 크기 k 의 최소 힙에 지금까지 가장 큰 k 개를 유지한다. 결과는 큰 것부터 정렬된다.
+    public static <T> Collector<T, ?, List<T>> topK(int k, Comparator<? super T> comparator) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        return Collector.of(
+                () -> new PriorityQueue<T>(k + 1, comparator),
+                (heap, t) -> offer(heap, t, k, comparator),
+                (heap1, heap2) -> {
+                    for (T t : heap2) {
+                        offer(heap1, t, k, comparator);
+                    }
+                    return heap1;
+                },
+                heap -> {
+                    List<T> top = new ArrayList<>(heap);
+                    top.sort(comparator.reversed());
+                    return top;
+                },
+                UNORDERED);
+    }
+
+    public static <T> Collector<T, ?, QuantileSketch> quantiles(ToDoubleFunction<? super T> mapper) {
+        return quantiles(mapper, QuantileSketch.DEFAULT_K);
+    }
+
+    public static <T> Collector<T, ?, QuantileSketch> quantiles(ToDoubleFunction<? super T> mapper, int k) {
+        return Collector.of(
+                () -> new QuantileSketch(k),
+                (sketch, t) -> sketch.add(mapper.applyAsDouble(t)),
+                QuantileSketch::merge,
+                IDENTITY_FINISH, UNORDERED);
+    }
+
+    private static <T> void offer(PriorityQueue<T> heap, T t, int k, Comparator<? super T> comparator) {
+        if (heap.size() < k) {
+            heap.add(t);
+        } else if (comparator.compare(t, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(t);
+        }
+    }
+}
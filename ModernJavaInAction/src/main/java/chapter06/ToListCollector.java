@@ -7,7 +7,6 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 
-import static java.util.stream.Collector.Characteristics.CONCURRENT;
 import static java.util.stream.Collector.Characteristics.IDENTITY_FINISH;
 
 public class ToListCollector<T> implements Collector<T, List<T>, List<T>> {
@@ -36,6 +35,7 @@ public class ToListCollector<T> implements Collector<T, List<T>, List<T>> {
 
     @Override
     public Set<Characteristics> characteristics() {
-        return Collections.unmodifiableSet(EnumSet.of(IDENTITY_FINISH, CONCURRENT));
+        // ArrayList 는 여러 스레드가 동시에 add 할 수 없으므로 CONCURRENT 를 선언하면 안 된다.
+        return Collections.unmodifiableSet(EnumSet.of(IDENTITY_FINISH));
     }
 }
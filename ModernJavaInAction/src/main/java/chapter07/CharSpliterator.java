@@ -0,0 +1,65 @@
+package chapter07;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+// 문자열을 복사하지 않고 인덱스 범위만 나눠 가지는 기본형 Spliterator.
+// 단어 경계는 WordCount 가 합칠 때 처리하므로 어느 위치에서 잘라도 된다.
+public class CharSpliterator implements Spliterator.OfInt {
+    static final int MIN_SPLIT_SIZE = 1 << 10;
+
+    private final CharSequence text;
+    private final int fence;
+    private int index;
+
+    public CharSpliterator(CharSequence text) {
+        this(text, 0, text.length());
+    }
+
+    public CharSpliterator(CharSequence text, int index, int fence) {
+        this.text = text;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(text.charAt(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        CharSequence text = this.text;
+        int fence = this.fence;
+        for (int i = index; i < fence; i++) {
+            action.accept(text.charAt(i));
+        }
+        index = fence;
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (fence - index < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        CharSpliterator prefix = new CharSpliterator(text, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = ORDERED + SIZED + SUBSIZED + NONNULL;
+        return text instanceof String ? characteristics + IMMUTABLE : characteristics;
+    }
+}
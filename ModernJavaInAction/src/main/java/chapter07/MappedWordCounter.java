@@ -0,0 +1,135 @@
+package chapter07;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// 파일을 메모리에 매핑해서 바이트 단위로 단어 수를 센다.
+// 공백은 ASCII 범위에서 Character.isWhitespace 와 같게 판단하므로 UTF-8 파일도 같은 결과를 낸다.
+// (U+2000 같은 멀티바이트 공백은 단어의 일부로 본다)
+public class MappedWordCounter {
+    static final long MIN_SEGMENT_SIZE = 16L * 1024 * 1024;
+    // 한 번에 매핑할 수 있는 크기는 Integer.MAX_VALUE 까지이고, 구간 앞의 한 바이트도 함께 매핑한다.
+    static final long MAX_SEGMENT_SIZE = 1024L * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final boolean[] WHITESPACE = new boolean[256];
+    private static final int[] WHITESPACE_BITS = new int[256];
+
+    static {
+        for (int c = 0; c < 128; c++) {
+            WHITESPACE[c] = Character.isWhitespace(c);
+            WHITESPACE_BITS[c] = WHITESPACE[c] ? 1 : 0;
+        }
+    }
+
+    private MappedWordCounter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args[0]);
+        long start = System.nanoTime();
+        long words = countWords(path);
+        long elapsed = System.nanoTime() - start;
+        long size = path.toFile().length();
+        System.out.println("Found " + words + " words in " + elapsed / 1_000_000 + " ms ("
+                + (size * 1_000 / Math.max(1, elapsed)) + " MB/s)");
+    }
+
+    public static long countWords(Path path) throws IOException {
+        return countWords(path, ForkJoinPool.commonPool());
+    }
+
+    public static long countWords(Path path, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long segmentSize = Math.min(MAX_SEGMENT_SIZE,
+                    Math.max(MIN_SEGMENT_SIZE, size / (pool.getParallelism() * 4L) + 1));
+            CountTask task = new CountTask(channel, 0, size, segmentSize);
+            try {
+                pool.invoke(task);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return task.words;
+        }
+    }
+
+    // 구간을 공백 위치에서 맞추는 대신, 구간 바로 앞의 바이트 하나를 보고 첫 단어가 이어지는 단어인지 판단한다.
+    // 그러면 어느 위치에서 잘라도 단어 시작(앞이 공백인 공백 아닌 바이트) 개수의 합이 전체 단어 수와 같다.
+    static long countWordStarts(byte[] bytes, int from, int to, boolean lastSpace) {
+        // 분기 예측이 어려운 자연어 텍스트에서도 느려지지 않도록 비교 대신 비트 연산으로 센다.
+        long words = 0;
+        int previous = lastSpace ? 1 : 0;
+        for (int i = from; i < to; i++) {
+            int space = WHITESPACE_BITS[bytes[i] & 0xFF];
+            words += previous & (space ^ 1);
+            previous = space;
+        }
+        return words;
+    }
+
+    private static class CountTask extends RecursiveAction {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final long segmentSize;
+        private long words;
+
+        CountTask(FileChannel channel, long start, long end, long segmentSize) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.segmentSize = segmentSize;
+        }
+
+        @Override
+        protected void compute() {
+            long length = end - start;
+            if (length <= segmentSize) {
+                words = countSequentially();
+                return;
+            }
+            long middle = start + length / 2;
+            CountTask leftTask = new CountTask(channel, start, middle, segmentSize);
+            leftTask.fork();
+            CountTask rightTask = new CountTask(channel, middle, end, segmentSize);
+            rightTask.compute();
+            leftTask.join();
+            words = leftTask.words + rightTask.words;
+        }
+
+        private long countSequentially() {
+            if (start == end) {
+                return 0;
+            }
+            long from = Math.max(0, start - 1);
+            MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, end - from);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            boolean lastSpace = true;
+            if (from < start) {
+                lastSpace = WHITESPACE[buffer.get() & 0xFF];
+            }
+            // 매핑된 버퍼에서 바로 읽기보다 작은 배열로 한 번에 옮겨 읽는 편이 루프가 단순해진다.
+            byte[] bytes = new byte[(int) Math.min(BUFFER_SIZE, end - start)];
+            long count = 0;
+            while (buffer.hasRemaining()) {
+                int read = Math.min(bytes.length, buffer.remaining());
+                buffer.get(bytes, 0, read);
+                count += countWordStarts(bytes, 0, read, lastSpace);
+                lastSpace = WHITESPACE[bytes[read - 1] & 0xFF];
+            }
+            return count;
+        }
+    }
+}
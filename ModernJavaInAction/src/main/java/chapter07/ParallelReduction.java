@@ -0,0 +1,344 @@
+package chapter07;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+// RecursiveTask<Long> 처럼 결과를 박싱하지 않도록 결과를 기본형 필드에 담는 RecursiveAction 으로 분할한다.
+public class ParallelReduction {
+    // 작업을 너무 잘게 나누면 fork/join 비용이 계산 비용보다 커진다.
+    static final int MIN_THRESHOLD = 1 << 13;
+    // 워커마다 여러 개의 작업이 돌아가야 작업 훔치기로 부하가 고르게 나뉜다.
+    static final int TASKS_PER_WORKER = 8;
+
+    private static final int SUM = 0;
+    private static final int MIN = 1;
+    private static final int MAX = 2;
+    private static final int CUSTOM = 3;
+
+    private ParallelReduction() {
+    }
+
+    public static int threshold(int length, int parallelism) {
+        long tasks = (long) Math.max(1, parallelism) * TASKS_PER_WORKER;
+        return (int) Math.max(MIN_THRESHOLD, (length + tasks - 1) / tasks);
+    }
+
+    public static long sum(long[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, SUM, 0L, null);
+    }
+
+    public static long min(long[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, MIN, Long.MAX_VALUE, null);
+    }
+
+    public static long max(long[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, MAX, Long.MIN_VALUE, null);
+    }
+
+    // op 는 결합 법칙을 만족해야 하고 identity 는 op 의 항등원이어야 한다.
+    public static long reduce(long[] numbers, long identity, LongBinaryOperator op) {
+        return reduce(ForkJoinPool.commonPool(), numbers, identity, op);
+    }
+
+    public static long reduce(ForkJoinPool pool, long[] numbers, long identity, LongBinaryOperator op) {
+        return invoke(pool, numbers, CUSTOM, identity, op);
+    }
+
+    public static int sum(int[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, SUM, 0, null);
+    }
+
+    public static int min(int[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, MIN, Integer.MAX_VALUE, null);
+    }
+
+    public static int max(int[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, MAX, Integer.MIN_VALUE, null);
+    }
+
+    public static int reduce(int[] numbers, int identity, IntBinaryOperator op) {
+        return reduce(ForkJoinPool.commonPool(), numbers, identity, op);
+    }
+
+    public static int reduce(ForkJoinPool pool, int[] numbers, int identity, IntBinaryOperator op) {
+        return invoke(pool, numbers, CUSTOM, identity, op);
+    }
+
+    // 부동소수점 덧셈은 결합 법칙이 정확히 성립하지 않으므로 순차 합과 마지막 자리가 다를 수 있다.
+    public static double sum(double[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, SUM, 0.0, null);
+    }
+
+    public static double min(double[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, MIN, Double.POSITIVE_INFINITY, null);
+    }
+
+    public static double max(double[] numbers) {
+        return invoke(ForkJoinPool.commonPool(), numbers, MAX, Double.NEGATIVE_INFINITY, null);
+    }
+
+    public static double reduce(double[] numbers, double identity, DoubleBinaryOperator op) {
+        return reduce(ForkJoinPool.commonPool(), numbers, identity, op);
+    }
+
+    public static double reduce(ForkJoinPool pool, double[] numbers, double identity, DoubleBinaryOperator op) {
+        return invoke(pool, numbers, CUSTOM, identity, op);
+    }
+
+    private static long invoke(ForkJoinPool pool, long[] numbers, int kind, long identity, LongBinaryOperator op) {
+        LongReduceTask task = new LongReduceTask(numbers, 0, numbers.length,
+                threshold(numbers.length, pool.getParallelism()), kind, identity, op);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    private static int invoke(ForkJoinPool pool, int[] numbers, int kind, int identity, IntBinaryOperator op) {
+        IntReduceTask task = new IntReduceTask(numbers, 0, numbers.length,
+                threshold(numbers.length, pool.getParallelism()), kind, identity, op);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    private static double invoke(ForkJoinPool pool, double[] numbers, int kind, double identity,
+                                 DoubleBinaryOperator op) {
+        DoubleReduceTask task = new DoubleReduceTask(numbers, 0, numbers.length,
+                threshold(numbers.length, pool.getParallelism()), kind, identity, op);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    private static class LongReduceTask extends RecursiveAction {
+        private final long[] numbers;
+        private final int start;
+        private final int end;
+        private final int threshold;
+        private final int kind;
+        private final long identity;
+        private final LongBinaryOperator op;
+        private long result;
+
+        LongReduceTask(long[] numbers, int start, int end, int threshold, int kind, long identity,
+                       LongBinaryOperator op) {
+            this.numbers = numbers;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+            this.kind = kind;
+            this.identity = identity;
+            this.op = op;
+        }
+
+        @Override
+        protected void compute() {
+            int length = end - start;
+            if (length <= threshold) {
+                result = computeSequentially();
+                return;
+            }
+            int middle = start + length / 2;
+            LongReduceTask leftTask = new LongReduceTask(numbers, start, middle, threshold, kind, identity, op);
+            leftTask.fork();
+            LongReduceTask rightTask = new LongReduceTask(numbers, middle, end, threshold, kind, identity, op);
+            rightTask.compute();
+            leftTask.join();
+            result = combine(leftTask.result, rightTask.result);
+        }
+
+        private long combine(long left, long right) {
+            switch (kind) {
+                case SUM:
+                    return left + right;
+                case MIN:
+                    return Math.min(left, right);
+                case MAX:
+                    return Math.max(left, right);
+                default:
+                    return op.applyAsLong(left, right);
+            }
+        }
+
+        // 연산별로 반복문을 따로 두어 JIT 이 각 루프를 벡터화할 수 있게 한다.
+        private long computeSequentially() {
+            long acc = identity;
+            switch (kind) {
+                case SUM:
+                    for (int i = start; i < end; i++) {
+                        acc += numbers[i];
+                    }
+                    return acc;
+                case MIN:
+                    for (int i = start; i < end; i++) {
+                        acc = Math.min(acc, numbers[i]);
+                    }
+                    return acc;
+                case MAX:
+                    for (int i = start; i < end; i++) {
+                        acc = Math.max(acc, numbers[i]);
+                    }
+                    return acc;
+                default:
+                    for (int i = start; i < end; i++) {
+                        acc = op.applyAsLong(acc, numbers[i]);
+                    }
+                    return acc;
+            }
+        }
+    }
+
+    private static class IntReduceTask extends RecursiveAction {
+        private final int[] numbers;
+        private final int start;
+        private final int end;
+        private final int threshold;
+        private final int kind;
+        private final int identity;
+        private final IntBinaryOperator op;
+        private int result;
+
+        IntReduceTask(int[] numbers, int start, int end, int threshold, int kind, int identity,
+                      IntBinaryOperator op) {
+            this.numbers = numbers;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+            this.kind = kind;
+            this.identity = identity;
+            this.op = op;
+        }
+
+        @Override
+        protected void compute() {
+            int length = end - start;
+            if (length <= threshold) {
+                result = computeSequentially();
+                return;
+            }
+            int middle = start + length / 2;
+            IntReduceTask leftTask = new IntReduceTask(numbers, start, middle, threshold, kind, identity, op);
+            leftTask.fork();
+            IntReduceTask rightTask = new IntReduceTask(numbers, middle, end, threshold, kind, identity, op);
+            rightTask.compute();
+            leftTask.join();
+            result = combine(leftTask.result, rightTask.result);
+        }
+
+        private int combine(int left, int right) {
+            switch (kind) {
+                case SUM:
+                    return left + right;
+                case MIN:
+                    return Math.min(left, right);
+                case MAX:
+                    return Math.max(left, right);
+                default:
+                    return op.applyAsInt(left, right);
+            }
+        }
+
+        private int computeSequentially() {
+            int acc = identity;
+            switch (kind) {
+                case SUM:
+                    for (int i = start; i < end; i++) {
+                        acc += numbers[i];
+                    }
+                    return acc;
+                case MIN:
+                    for (int i = start; i < end; i++) {
+                        acc = Math.min(acc, numbers[i]);
+                    }
+                    return acc;
+                case MAX:
+                    for (int i = start; i < end; i++) {
+                        acc = Math.max(acc, numbers[i]);
+                    }
+                    return acc;
+                default:
+                    for (int i = start; i < end; i++) {
+                        acc = op.applyAsInt(acc, numbers[i]);
+                    }
+                    return acc;
+            }
+        }
+    }
+
+    private static class DoubleReduceTask extends RecursiveAction {
+        private final double[] numbers;
+        private final int start;
+        private final int end;
+        private final int threshold;
+        private final int kind;
+        private final double identity;
+        private final DoubleBinaryOperator op;
+        private double result;
+
+        DoubleReduceTask(double[] numbers, int start, int end, int threshold, int kind, double identity,
+                         DoubleBinaryOperator op) {
+            this.numbers = numbers;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+            this.kind = kind;
+            this.identity = identity;
+            this.op = op;
+        }
+
+        @Override
+        protected void compute() {
+            int length = end - start;
+            if (length <= threshold) {
+                result = computeSequentially();
+                return;
+            }
+            int middle = start + length / 2;
+            DoubleReduceTask leftTask = new DoubleReduceTask(numbers, start, middle, threshold, kind, identity, op);
+            leftTask.fork();
+            DoubleReduceTask rightTask = new DoubleReduceTask(numbers, middle, end, threshold, kind, identity, op);
+            rightTask.compute();
+            leftTask.join();
+            result = combine(leftTask.result, rightTask.result);
+        }
+
+        private double combine(double left, double right) {
+            switch (kind) {
+                case SUM:
+                    return left + right;
+                case MIN:
+                    return Math.min(left, right);
+                case MAX:
+                    return Math.max(left, right);
+                default:
+                    return op.applyAsDouble(left, right);
+            }
+        }
+
+        private double computeSequentially() {
+            double acc = identity;
+            switch (kind) {
+                case SUM:
+                    for (int i = start; i < end; i++) {
+                        acc += numbers[i];
+                    }
+                    return acc;
+                case MIN:
+                    for (int i = start; i < end; i++) {
+                        acc = Math.min(acc, numbers[i]);
+                    }
+                    return acc;
+                case MAX:
+                    for (int i = start; i < end; i++) {
+                        acc = Math.max(acc, numbers[i]);
+                    }
+                    return acc;
+                default:
+                    for (int i = start; i < end; i++) {
+                        acc = op.applyAsDouble(acc, numbers[i]);
+                    }
+                    return acc;
+            }
+        }
+    }
+}
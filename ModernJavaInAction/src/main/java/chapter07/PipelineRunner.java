@@ -0,0 +1,249 @@
+package chapter07;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// 병렬 스트림의 최종 연산을 ForkJoinPool 작업 안에서 호출하면 공용 풀 대신 그 풀에서 실행된다.
+// 블로킹 단계는 ManagedBlocker 로 감싸서 풀이 잠든 스레드만큼 보상 스레드를 띄우게 한다.
+public class PipelineRunner implements AutoCloseable {
+    private static final AtomicInteger POOL_IDS = new AtomicInteger();
+
+    private final ForkJoinPool pool;
+    private final Map<String, Stage> stages = new ConcurrentHashMap<>();
+    private final List<Stage> stageOrder = new ArrayList<>();
+    private final LongAccumulator peakPoolSize = new LongAccumulator(Math::max, 0);
+
+    public PipelineRunner(int parallelism) {
+        this(newPool(parallelism, "pipeline-" + POOL_IDS.incrementAndGet()));
+    }
+
+    public PipelineRunner(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    static ForkJoinPool newPool(int parallelism, String name) {
+        AtomicInteger threadIds = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + "-worker-" + threadIds.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    public <T> T run(Supplier<T> pipeline) {
+        return pool.submit(pipeline::get).join();
+    }
+
+    public void run(Runnable pipeline) {
+        pool.submit(pipeline).join();
+    }
+
+    public <T, R> Function<T, R> timed(String name, Function<T, R> function) {
+        Stage stage = stage(name);
+        return t -> {
+            long start = stage.enter();
+            try {
+                return function.apply(t);
+            } finally {
+                stage.exit(start);
+            }
+        };
+    }
+
+    public <T> Predicate<T> timedFilter(String name, Predicate<T> predicate) {
+        Function<T, Boolean> function = timed(name, predicate::test);
+        return function::apply;
+    }
+
+    public <T> Consumer<T> timedAction(String name, Consumer<T> action) {
+        Function<T, Void> function = timed(name, t -> {
+            action.accept(t);
+            return null;
+        });
+        return function::apply;
+    }
+
+    public <T, R> Function<T, R> blocking(String name, Function<T, R> function) {
+        return timed(name, t -> managedBlock(() -> function.apply(t)));
+    }
+
+    public <T> Predicate<T> blockingFilter(String name, Predicate<T> predicate) {
+        Function<T, Boolean> function = blocking(name, predicate::test);
+        return function::apply;
+    }
+
+    public <T> Consumer<T> blockingAction(String name, Consumer<T> action) {
+        Function<T, Void> function = blocking(name, t -> {
+            action.accept(t);
+            return null;
+        });
+        return function::apply;
+    }
+
+    public List<StageReport> report() {
+        List<StageReport> reports = new ArrayList<>();
+        synchronized (stageOrder) {
+            for (Stage stage : stageOrder) {
+                reports.add(stage.report());
+            }
+        }
+        return reports;
+    }
+
+    // 비동기로 돌릴 때 넘겨준다. 이 풀의 워커에서 시작한 병렬 스트림은 공용 풀 대신 이 풀에서 실행된다.
+    public Executor getExecutor() {
+        return pool;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public long getPeakPoolSize() {
+        return peakPoolSize.get();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Stage stage(String name) {
+        return stages.computeIfAbsent(name, key -> {
+            Stage stage = new Stage(key);
+            synchronized (stageOrder) {
+                stageOrder.add(stage);
+            }
+            return stage;
+        });
+    }
+
+    private static <R> R managedBlock(Supplier<R> call) {
+        Blocker<R> blocker = new Blocker<>(call);
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while blocking", e);
+        }
+        return blocker.result;
+    }
+
+    private static class Blocker<R> implements ForkJoinPool.ManagedBlocker {
+        private final Supplier<R> call;
+        private R result;
+        private boolean done;
+
+        Blocker(Supplier<R> call) {
+            this.call = call;
+        }
+
+        @Override
+        public boolean block() {
+            result = call.get();
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+    }
+
+    private class Stage {
+        private final String name;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        Stage(String name) {
+            this.name = name;
+        }
+
+        long enter() {
+            threads.add(Thread.currentThread().getName());
+            peakPoolSize.accumulate(pool.getPoolSize());
+            return System.nanoTime();
+        }
+
+        void exit(long start) {
+            long elapsed = System.nanoTime() - start;
+            calls.increment();
+            totalNanos.add(elapsed);
+            maxNanos.accumulate(elapsed);
+        }
+
+        StageReport report() {
+            return new StageReport(name, calls.sum(), totalNanos.sum(), maxNanos.get(), threads.size());
+        }
+    }
+
+    public static class StageReport {
+        private final String name;
+        private final long calls;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final int threadCount;
+
+        StageReport(String name, long calls, long totalNanos, long maxNanos, int threadCount) {
+            this.name = name;
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.threadCount = threadCount;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public int getThreadCount() {
+            return threadCount;
+        }
+
+        @Override
+        public String toString() {
+            return "StageReport{" +
+                    "name='" + name + '\'' +
+                    ", calls=" + calls +
+                    ", totalMillis=" + TimeUnit.NANOSECONDS.toMillis(totalNanos) +
+                    ", meanMicros=" + (calls == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos / calls)) +
+                    ", maxMicros=" + TimeUnit.NANOSECONDS.toMicros(maxNanos) +
+                    ", threads=" + threadCount +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package chapter07;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+// StreamTest 의 Thread.sleep 파이프라인을 전용 풀에서 돌리는 동안, 공용 풀의 CPU 작업이 밀리지 않는지 본다.
+public class PipelineRunnerSample {
+    public static void main(String[] args) {
+        try (PipelineRunner runner = new PipelineRunner(4)) {
+            // 공용 풀 스레드를 기다리게 하지 않도록 파이프라인 자체를 전용 풀에서 시작한다.
+            CompletableFuture<List<Integer>> io = CompletableFuture.supplyAsync(() ->
+                    IntStream.rangeClosed(1, 40).boxed().parallel()
+                            .map(runner.blocking("map", i -> sleep(100, i)))
+                            .filter(runner.blockingFilter("filter", i -> sleep(100, i) > 20))
+                            .map(runner.timed("square", i -> i * i))
+                            .collect(Collectors.toList()), runner.getExecutor());
+
+            long start = System.nanoTime();
+            long cpu = LongStream.rangeClosed(1, 200_000_000L).parallel().sum();
+            System.out.println("common pool sum = " + cpu + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+            List<Integer> squares = io.join();
+            System.out.println("squares = " + squares);
+            runner.report().forEach(System.out::println);
+            System.out.println("parallelism = " + runner.getParallelism() + ", peak pool size = " + runner.getPeakPoolSize());
+        }
+    }
+
+    private static int sleep(long millis, int value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,54 @@
+package chapter07;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+// WordCounter 와 달리 상태를 직접 바꾸는 누적기라서 문자마다 객체를 만들지 않는다.
+// 구간의 첫 글자와 마지막 글자 상태를 기억해 두었다가, 합칠 때 경계에서 잘린 단어를 한 번만 센다.
+// Character 스트림용 Collector 는 문자마다 박싱하므로 두지 않고, IntStream.collect 로만 사용한다.
+public class WordCount {
+    private int count;
+    private boolean empty = true;
+    private boolean startsInWord;
+    private boolean lastSpace = true;
+
+    public static int count(CharSequence text, boolean parallel) {
+        return count(StreamSupport.intStream(new CharSpliterator(text), parallel));
+    }
+
+    public static int count(IntStream chars) {
+        return chars.collect(WordCount::new, WordCount::accept, WordCount::combine).getCount();
+    }
+
+    public void accept(int c) {
+        boolean space = Character.isWhitespace(c);
+        if (empty) {
+            startsInWord = !space;
+            empty = false;
+        }
+        if (lastSpace && !space) {
+            count++;
+        }
+        lastSpace = space;
+    }
+
+    public WordCount combine(WordCount other) {
+        if (other.empty) {
+            return this;
+        }
+        if (empty) {
+            startsInWord = other.startsInWord;
+            empty = false;
+        }
+        count += other.count;
+        if (!lastSpace && other.startsInWord) {
+            count--;
+        }
+        lastSpace = other.lastSpace;
+        return this;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
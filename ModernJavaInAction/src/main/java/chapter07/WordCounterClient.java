@@ -29,6 +29,14 @@ public class WordCounterClient {
                         WordCounter::combine)
                 .getCounter();
         System.out.println("Found " + spliteratorWordCount + " words");
+
+        // 기본형 스트림과 가변 누적기를 사용하면 박싱과 상태 객체 생성이 모두 사라진다.
+        int collectedWordCount = SENTENCE.chars()
+                .collect(WordCount::new, WordCount::accept, WordCount::combine)
+                .getCount();
+        System.out.println("Found " + collectedWordCount + " words");
+
+        System.out.println("Found " + WordCount.count(SENTENCE, true) + " words");
     }
 
 
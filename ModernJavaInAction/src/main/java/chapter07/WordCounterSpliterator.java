@@ -4,43 +4,77 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 
 public class WordCounterSpliterator implements Spliterator<Character> {
+    static final int MIN_SPLIT_SIZE = 10;
+    // 공백을 찾는 범위를 중앙에서 이만큼으로 제한해 긴 단어가 있어도 끝까지 훑지 않는다.
+    static final int MAX_SPLIT_SEARCH = 1 << 10;
 
     private final String string;
-    private int currentChar = 0;
+    private final int fence;
+    private int currentChar;
 
     public WordCounterSpliterator(String string) {
+        this(string, 0, string.length());
+    }
+
+    // substring 으로 복사하지 않고 같은 문자열의 범위만 나눠 가진다.
+    WordCounterSpliterator(String string, int currentChar, int fence) {
         this.string = string;
+        this.currentChar = currentChar;
+        this.fence = fence;
     }
 
     @Override
     public boolean tryAdvance(Consumer<? super Character> action) {
+        if (currentChar >= fence) {
+            return false;
+        }
         action.accept(string.charAt(currentChar++));
-        return currentChar < string.length();
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Character> action) {
+        for (int i = currentChar; i < fence; i++) {
+            action.accept(string.charAt(i));
+        }
+        currentChar = fence;
     }
 
+    // 중앙에서 가까운 공백부터 양쪽으로 번갈아 찾는다. 잘린 뒤쪽은 항상 공백으로 시작하므로 단어가 두 번 세어지지 않는다.
     @Override
     public Spliterator<Character> trySplit() {
-        int currentSize = string.length() - currentChar;
-        if (currentSize < 10) {
+        int currentSize = fence - currentChar;
+        if (currentSize < MIN_SPLIT_SIZE) {
             return null;
         }
 
-        for (int splitPos = currentSize / 2 + currentChar;
-             splitPos < string.length(); splitPos++) {
-            if (Character.isWhitespace(string.charAt(splitPos))) {
-                WordCounterSpliterator spliterator = new WordCounterSpliterator(string.substring(currentChar, splitPos));
-                currentChar = splitPos;
-                return spliterator;
+        int middle = currentChar + currentSize / 2;
+        int searchLimit = Math.min(MAX_SPLIT_SEARCH, currentSize / 2);
+        for (int distance = 0; distance < searchLimit; distance++) {
+            int splitPos = middle + distance;
+            if (splitPos < fence && Character.isWhitespace(string.charAt(splitPos))) {
+                return splitAt(splitPos);
+            }
+            splitPos = middle - distance - 1;
+            if (splitPos > currentChar && Character.isWhitespace(string.charAt(splitPos))) {
+                return splitAt(splitPos);
             }
         }
         return null;
     }
 
+    private Spliterator<Character> splitAt(int splitPos) {
+        WordCounterSpliterator spliterator = new WordCounterSpliterator(string, currentChar, splitPos);
+        currentChar = splitPos;
+        return spliterator;
+    }
+
     @Override
     public long estimateSize() {
-        return string.length() - currentChar;
+        return fence - currentChar;
     }
 
+    // 범위로 나누므로 나눈 뒤에도 양쪽 크기를 정확히 알 수 있어 SIZED, SUBSIZED 가 성립한다.
     @Override
     public int characteristics() {
         return ORDERED + SIZED + SUBSIZED + NONNULL + IMMUTABLE;
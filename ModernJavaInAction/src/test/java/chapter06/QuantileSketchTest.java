@@ -0,0 +1,76 @@
+package chapter06;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantileSketchTest {
+    private static final long SEED = 42L;
+    private static final double[] QUANTILES = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+
+    @Test
+    void rankErrorStaysSmall() {
+        Random random = new Random(SEED);
+        double[] values = new double[200_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian();
+            sketch.add(values[i]);
+        }
+        assertRankError(values, sketch);
+    }
+
+    @Test
+    void mergedSketchMatchesTheUnion() {
+        Random random = new Random(SEED);
+        double[] values = new double[100_000];
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? random.nextDouble() : 1 + random.nextDouble();
+            (i % 2 == 0 ? left : right).add(values[i]);
+        }
+        QuantileSketch merged = left.merge(right);
+
+        assertEquals(values.length, merged.getCount());
+        assertRankError(values, merged);
+    }
+
+    @Test
+    void addAfterQuantileIsVisible() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < 100; i++) {
+            sketch.add(1);
+        }
+        assertEquals(1, sketch.quantile(0.5), 0);
+
+        for (int i = 0; i < 300; i++) {
+            sketch.add(2);
+        }
+        assertEquals(2, sketch.quantile(0.5), 0);
+    }
+
+    @Test
+    void rejectsSelfMerge() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(1);
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(sketch));
+    }
+
+    private static void assertRankError(double[] values, QuantileSketch sketch) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            double estimate = sketch.quantile(q);
+            int rank = Arrays.binarySearch(sorted, estimate);
+            double error = Math.abs((double) rank / sorted.length - q);
+            assertTrue(rank >= 0 && error < 0.02, () -> "q=" + q + " rank error " + error);
+        }
+    }
+}
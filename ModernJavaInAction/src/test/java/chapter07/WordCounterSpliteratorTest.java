@@ -0,0 +1,86 @@
+package chapter07;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 무작위 문장으로 병렬 결과가 순차 결과와 같은지, 분할이 한쪽으로 치우치지 않는지 확인한다.
+class WordCounterSpliteratorTest {
+    private static final long SEED = 7L;
+    private static final int TRIALS = 300;
+    private static final String[] TOKENS = {" ", "   ", "\n", "\t", "a", "word", "아주긴단어", "x"};
+
+    @Test
+    void parallelCountEqualsSequentialCount() {
+        Random random = new Random(SEED);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            String text = randomText(random, random.nextInt(trial < TRIALS / 2 ? 64 : 100_000));
+            int expected = WordCounterClient.countWordsIteratively(text);
+            assertEquals(expected, count(text, false), () -> "sequential: \"" + text + "\"");
+            assertEquals(expected, count(text, true), () -> "parallel: \"" + text + "\"");
+            assertEquals(expected, WordCount.count(text, false), () -> "WordCount sequential: \"" + text + "\"");
+            assertEquals(expected, WordCount.count(text, true), () -> "WordCount parallel: \"" + text + "\"");
+        }
+    }
+
+    @Test
+    void splitsCoverTheWholeText() {
+        Random random = new Random(SEED);
+        for (int trial = 0; trial < TRIALS; trial++) {
+            assertSplitsCover(randomText(random, random.nextInt(trial < TRIALS / 2 ? 64 : 100_000)));
+        }
+    }
+
+    @Test
+    void splitsLongWordsWithoutLosingCharacters() {
+        assertSplitsCover("a".repeat(1_000_000) + " " + "b".repeat(1_000_000));
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+        return builder.toString();
+    }
+
+    // 모든 조각을 끝까지 나눈 뒤 크기의 합과 SIZED 가 보고한 크기가 맞는지 본다.
+    private static void assertSplitsCover(String text) {
+        Deque<Spliterator<Character>> pending = new ArrayDeque<>();
+        pending.push(new WordCounterSpliterator(text));
+        long total = 0;
+        int words = 0;
+        while (!pending.isEmpty()) {
+            Spliterator<Character> spliterator = pending.pop();
+            long size = spliterator.estimateSize();
+            Spliterator<Character> prefix = spliterator.trySplit();
+            if (prefix != null) {
+                assertEquals(size, prefix.estimateSize() + spliterator.estimateSize(), "split sizes do not add up");
+                pending.push(prefix);
+                pending.push(spliterator);
+                continue;
+            }
+            total += size;
+            int[] visited = new int[1];
+            WordCounter counter = StreamSupport.stream(spliterator, false)
+                    .peek(c -> visited[0]++)
+                    .reduce(new WordCounter(0, true), WordCounter::accumulate, WordCounter::combine);
+            assertEquals(size, visited[0], "reported size differs from visited characters");
+            words += counter.getCounter();
+        }
+        assertEquals(text.length(), total);
+        assertEquals(WordCounterClient.countWordsIteratively(text), words);
+    }
+
+    private static int count(String text, boolean parallel) {
+        return StreamSupport.stream(new WordCounterSpliterator(text), parallel)
+                .reduce(new WordCounter(0, true), WordCounter::accumulate, WordCounter::combine)
+                .getCounter();
+    }
+}
@@ -0,0 +1,104 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class CompositeDiscountPolicyBenchmark {
+    @Param({"10000"})
+    private int size;
+
+    @Param({"32"})
+    private int promotionCount;
+
+    private List<Screening> screenings;
+    private DiscountPolicy[] promotions;
+    private DiscountPolicy composite;
+
+    // 값비싼 조건을 앞에, 자주 맞는 조건을 뒤에 두어 선언 순서가 가장 나쁜 경우를 만든다.
+    @Setup
+    public void setUp() {
+        DayOfWeek[] days = DayOfWeek.values();
+        Set<LocalDate> holidays = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            holidays.add(LocalDate.of(2020 + i, 1, 1));
+        }
+        promotions = new DiscountPolicy[promotionCount];
+        for (int i = 0; i < promotionCount; i++) {
+            promotions[i] = new AmountDiscountPolicy(Money.wons(100 + i * 10),
+                    new HolidayCondition(holidays),
+                    new PeriodCondition(days[i % days.length], LocalTime.of(0, 0), LocalTime.of(0, 30)),
+                    new PeriodCondition(days[(i + 3) % days.length], LocalTime.of(1, 0), LocalTime.of(1, 30)),
+                    new SequenceCondition(100 + i),
+                    new SequenceCondition(i % 10 + 1),
+                    new MatineeCondition(LocalTime.of(16 + i % 4, 0)));
+        }
+        composite = CompositeDiscountPolicy.maxOf(promotions);
+        screenings = WeeklySchedule.of(Client.movies(), size);
+        for (int i = 0; i < 10; i++) {
+            for (Screening screening : screenings) {
+                composite.calculateDiscountAmount(screening);
+            }
+        }
+    }
+
+    @Benchmark
+    public void declaredOrder(Blackhole blackhole) {
+        for (Screening screening : screenings) {
+            Money best = Money.ZERO;
+            for (DiscountPolicy promotion : promotions) {
+                Money discount = promotion.calculateDiscountAmount(screening);
+                if (best.isLessThan(discount)) {
+                    best = discount;
+                }
+            }
+            blackhole.consume(best);
+        }
+    }
+
+    @Benchmark
+    public void adaptiveOrder(Blackhole blackhole) {
+        for (Screening screening : screenings) {
+            blackhole.consume(composite.calculateDiscountAmount(screening));
+        }
+    }
+
+    // 시각 필드만 비교하므로 싸고, 대부분의 상영이 만족한다.
+    static class MatineeCondition implements DiscountCondition {
+        private final LocalTime before;
+
+        MatineeCondition(LocalTime before) {
+            this.before = before;
+        }
+
+        @Override
+        public boolean isSatisfiedBy(Screening screening) {
+            return screening.getStartTime().toLocalTime().isBefore(before);
+        }
+    }
+
+    // 날짜를 만들어 해시 집합에서 찾으므로 다른 조건보다 훨씬 비싸고 거의 맞지 않는다.
+    static class HolidayCondition implements DiscountCondition {
+        private final Set<LocalDate> holidays;
+
+        HolidayCondition(Set<LocalDate> holidays) {
+            this.holidays = holidays;
+        }
+
+        @Override
+        public boolean isSatisfiedBy(Screening screening) {
+            return holidays.contains(screening.getStartTime().toLocalDate());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class DiscountPolicyBenchmark {
+    @Param({"10000"})
+    private int size;
+
+    @Param({"4", "64"})
+    private int conditionCount;
+
+    private List<Screening> screenings;
+    private DiscountPolicy policy;
+    private DiscountPolicy compiledPolicy;
+
+    @Setup
+    public void setUp() {
+        DiscountCondition[] conditions = new DiscountCondition[conditionCount];
+        DayOfWeek[] days = DayOfWeek.values();
+        for (int i = 0; i < conditionCount; i++) {
+            conditions[i] = i % 2 == 0
+                    ? new SequenceCondition(i + 11)
+                    : new PeriodCondition(days[i % days.length], LocalTime.of(i % 24, 0), LocalTime.of(i % 24, 30));
+        }
+        policy = new AmountDiscountPolicy(Money.wons(800), conditions);
+        compiledPolicy = CompiledDiscountPolicy.compile(policy);
+        screenings = WeeklySchedule.of(Client.movies(), size);
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (Screening screening : screenings) {
+            blackhole.consume(policy.calculateDiscountAmount(screening));
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        for (Screening screening : screenings) {
+            blackhole.consume(compiledPolicy.calculateDiscountAmount(screening));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 예매가 몰리는 동안 정책을 계속 교체하면서, 요금과 정책이 섞인 결과가 나오면 실패시킨다.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Group)
+public class DiscountPolicySwapBenchmark {
+    private static final String TITLE = "아바타";
+
+    private static final Money AMOUNT_FEE = Money.wons(10000);
+    private static final Money PERCENT_FEE = Money.wons(20000);
+    private static final List<Money> VALID_FEES = List.of(Money.wons(10000), Money.wons(9200), Money.wons(20000));
+
+    private final DiscountPolicyRegistry registry = new DiscountPolicyRegistry();
+    private final Customer customer = new Customer();
+    private Screening discounted;
+    private Screening regular;
+    private boolean amount = true;
+
+    @Setup
+    public void setUp() {
+        Movie movie = new Movie(TITLE, Duration.ofMinutes(120), AMOUNT_FEE, amountPolicy());
+        registry.register(movie);
+        discounted = new Screening(movie, 1, LocalDateTime.of(2024, 3, 4, 10, 0));
+        regular = new Screening(movie, 5, LocalDateTime.of(2024, 3, 5, 20, 0));
+    }
+
+    @Benchmark
+    @Group("swap")
+    @GroupThreads(7)
+    public Reservation reserve() {
+        Reservation discountedReservation = discounted.reserve(customer, 1);
+        check(discountedReservation.getFee());
+        Reservation regularReservation = regular.reserve(customer, 1);
+        check(regularReservation.getFee());
+        return regularReservation;
+    }
+
+    @Benchmark
+    @Group("swap")
+    @GroupThreads(1)
+    public void swap() {
+        amount = !amount;
+        if (amount) {
+            registry.replacePricing(TITLE, AMOUNT_FEE, amountPolicy());
+        } else {
+            registry.replacePricing(TITLE, PERCENT_FEE, percentPolicy());
+        }
+    }
+
+    // 섞인 스냅숏이라면 10000원에 50% 할인(5000원)이나 20000원에 800원 할인(19200원)이 나온다.
+    private static void check(Money fee) {
+        for (Money valid : VALID_FEES) {
+            if (!fee.isLessThan(valid) && !valid.isLessThan(fee)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("torn pricing snapshot");
+    }
+
+    private static DiscountPolicy amountPolicy() {
+        return new AmountDiscountPolicy(Money.wons(800),
+                new SequenceCondition(1),
+                new PeriodCondition(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 59)));
+    }
+
+    private static DiscountPolicy percentPolicy() {
+        return new PercentDiscountPolicy(0.5,
+                new SequenceCondition(1),
+                new PeriodCondition(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 59)));
+    }
+}
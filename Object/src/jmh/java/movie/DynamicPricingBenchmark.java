@@ -0,0 +1,37 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Threads(8)
+@State(Scope.Benchmark)
+public class DynamicPricingBenchmark {
+    private final Customer customer = new Customer();
+    private Screening screening;
+    private DynamicPricing pricing;
+
+    @Setup
+    public void setUp() {
+        screening = new Screening(Client.avatar(), 1, LocalDateTime.of(2099, 3, 4, 10, 0));
+        pricing = new DynamicPricing(1_000_000, new double[]{0.5, 0.8}, new double[]{1.0, 1.1, 1.2},
+                Duration.ofMillis(1));
+    }
+
+    @Benchmark
+    public Reservation staticFee() {
+        return screening.reserve(customer, 1);
+    }
+
+    @Benchmark
+    public Reservation dynamicFee() {
+        Reservation reservation = pricing.reserve(screening, customer, 1);
+        pricing.cancel(reservation);
+        return reservation;
+    }
+}
@@ -0,0 +1,56 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class MeteredDiscountPolicyBenchmark {
+    @Param({"10000"})
+    private int size;
+
+    @Param({"1", "16"})
+    private int sampleRate;
+
+    private List<Screening> screenings;
+    private DiscountPolicy policy;
+    private DiscountPolicy meteredPolicy;
+
+    @Setup
+    public void setUp() {
+        screenings = WeeklySchedule.of(Client.movies(), size);
+        policy = Client.avatar().getDiscountPolicy();
+        meteredPolicy = new MeteredDiscountPolicy(Client.avatar().getDiscountPolicy(), sampleRate);
+    }
+
+    @Benchmark
+    public void plain(Blackhole blackhole) {
+        for (Screening screening : screenings) {
+            blackhole.consume(policy.calculateDiscountAmount(screening));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void plainContended(Blackhole blackhole) {
+        plain(blackhole);
+    }
+
+    @Benchmark
+    public void metered(Blackhole blackhole) {
+        for (Screening screening : screenings) {
+            blackhole.consume(meteredPolicy.calculateDiscountAmount(screening));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void meteredContended(Blackhole blackhole) {
+        metered(blackhole);
+    }
+}
@@ -0,0 +1,92 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    private static final Money AVATAR_DISCOUNT = Money.wons(800);
+    private static final LongMoney AVATAR_LONG_DISCOUNT = LongMoney.wons(800);
+    private static final double TITANIC_PERCENT = 0.1;
+    private static final DecimalFactor TITANIC_FACTOR = DecimalFactor.of(TITANIC_PERCENT);
+
+    @Param({"10000"})
+    private int size;
+
+    private Money[] fees;
+    private LongMoney[] longFees;
+    private int[] discountKinds;
+    private int[] audienceCounts;
+
+    @Setup
+    public void setUp() {
+        List<Movie> movies = Client.movies();
+        List<Screening> screenings = WeeklySchedule.of(movies, size);
+        fees = new Money[size];
+        longFees = new LongMoney[size];
+        discountKinds = new int[size];
+        audienceCounts = WeeklySchedule.audienceCounts(size);
+        for (int i = 0; i < size; i++) {
+            Screening screening = screenings.get(i);
+            int movieIndex = i % movies.size();
+            Movie movie = movies.get(movieIndex);
+            fees[i] = movie.getFee();
+            longFees[i] = LongMoney.from(movie.getFee(), RoundingMode.UNNECESSARY);
+            // Client 의 영화 순서: 0 = 금액 할인, 1 = 비율 할인, 2 = 할인 없음
+            boolean discounted = movie.calculateMovieFee(screening).isLessThan(movie.getFee());
+            discountKinds[i] = discounted ? movieIndex + 1 : 0;
+        }
+    }
+
+    @Benchmark
+    public Money bigDecimalMoney() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < size; i++) {
+            Money fee = fees[i];
+            if (discountKinds[i] == 1) {
+                fee = fee.minus(AVATAR_DISCOUNT);
+            } else if (discountKinds[i] == 2) {
+                fee = fee.minus(fee.times(TITANIC_PERCENT));
+            }
+            total = total.plus(fee.times(audienceCounts[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public LongMoney longMoney() {
+        LongMoney total = LongMoney.ZERO;
+        for (int i = 0; i < size; i++) {
+            LongMoney fee = longFees[i];
+            if (discountKinds[i] == 1) {
+                fee = fee.minus(AVATAR_LONG_DISCOUNT);
+            } else if (discountKinds[i] == 2) {
+                fee = fee.minus(fee.times(TITANIC_FACTOR, RoundingMode.HALF_UP));
+            }
+            total = total.plus(fee.times(audienceCounts[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long moneyAccumulator() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (int i = 0; i < size; i++) {
+            LongMoney fee = longFees[i];
+            long count = audienceCounts[i];
+            total.addTimes(fee, count);
+            if (discountKinds[i] == 1) {
+                total.addMinorUnits(-AVATAR_LONG_DISCOUNT.getMinorUnits() * count);
+            } else if (discountKinds[i] == 2) {
+                total.addTimes(fee.times(TITANIC_FACTOR, RoundingMode.HALF_UP), -count);
+            }
+        }
+        return total.getMinorUnits();
+    }
+}
@@ -0,0 +1,57 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@State(Scope.Benchmark)
+public class ReservationBatchBenchmark {
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private List<ReservationRequest> requests;
+    private ForkJoinPool pool;
+    private ReservationBatch batch;
+
+    @Setup
+    public void setUp() {
+        // 상영 수를 요청 수보다 적게 두어 같은 상영에 여러 요청이 몰리도록 한다.
+        List<Screening> screenings = WeeklySchedule.of(Client.movies(), size / 10);
+        int[] audienceCounts = WeeklySchedule.audienceCounts(size);
+        Customer customer = new Customer();
+        requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            requests.add(new ReservationRequest(screenings.get(i % screenings.size()), customer, audienceCounts[i]));
+        }
+        pool = new ForkJoinPool(parallelism);
+        batch = new ReservationBatch(pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Reservation> perCallLoop() {
+        List<Reservation> reservations = new ArrayList<>(requests.size());
+        for (ReservationRequest request : requests) {
+            reservations.add(request.getScreening().reserve(request.getCustomer(), request.getAudienceCount()));
+        }
+        return reservations;
+    }
+
+    @Benchmark
+    public List<Reservation> batch() {
+        return batch.reserve(requests);
+    }
+}
@@ -0,0 +1,58 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class ReservationJournalBenchmark {
+    private static final int REPLAY_RECORDS = 1_000_000;
+
+    private Path appendPath;
+    private ReservationJournal journal;
+    private Path replayPath;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException, InterruptedException {
+        appendPath = Files.createTempFile("reservation-journal", ".log");
+        journal = ReservationJournal.open(appendPath);
+
+        replayPath = Files.createTempFile("reservation-replay", ".log");
+        try (ReservationJournal replayJournal = ReservationJournal.open(replayPath)) {
+            long position = 0;
+            for (int i = 0; i < REPLAY_RECORDS; i++) {
+                position = replayJournal.append(i % 3, i % 10 + 1, 1_709_510_400L + i * 60L, 920_000L, 2, -1, -1);
+            }
+            replayJournal.awaitDurable(position);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(appendPath);
+        Files.deleteIfExists(replayPath);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long append() {
+        return journal.append(1, 2, 1_709_510_400L, 920_000L, 2, -1, -1);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long replayMillionRecords() throws IOException {
+        long[] total = new long[1];
+        ReservationJournal.replay(replayPath,
+                (movieId, sequence, startEpochSecond, feeMinorUnits, audienceCount, row, firstSeat) -> total[0] += feeMinorUnits);
+        return total[0];
+    }
+}
@@ -0,0 +1,42 @@
+package movie;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@State(Scope.Benchmark)
+public class ScreeningScheduleBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private List<Screening> screenings;
+    private ScreeningSchedule schedule;
+
+    @Setup
+    public void setUp() {
+        screenings = WeeklySchedule.of(Client.movies(), size);
+        schedule = ScreeningSchedule.of(screenings);
+    }
+
+    @Benchmark
+    public void objectGraph(Blackhole blackhole) {
+        for (Screening screening : screenings) {
+            blackhole.consume(screening.getMovie().calculateMovieFee(screening));
+        }
+    }
+
+    @Benchmark
+    public long[] columnar() {
+        return schedule.calculateFees();
+    }
+
+    @Benchmark
+    public long[] columnarParallel() {
+        return schedule.calculateFeesParallel();
+    }
+}
@@ -0,0 +1,38 @@
+package movie;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class WeeklySchedule {
+    private static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+
+    private WeeklySchedule() {
+    }
+
+    static List<Screening> of(List<Movie> movies, int size) {
+        Random random = new Random(42);
+        List<Screening> screenings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Movie movie = movies.get(i % movies.size());
+            int sequence = random.nextInt(10) + 1;
+            LocalDateTime whenScreened = LocalDateTime.of(
+                    MONDAY.plusDays(random.nextInt(7)),
+                    LocalTime.of(9 + sequence, random.nextInt(4) * 15));
+            screenings.add(new Screening(movie, sequence, whenScreened));
+        }
+        return screenings;
+    }
+
+    static int[] audienceCounts(int size) {
+        Random random = new Random(7);
+        int[] counts = new int[size];
+        for (int i = 0; i < size; i++) {
+            counts[i] = random.nextInt(4) + 1;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,105 @@
+package ticket;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 판매 한 건당 할당량은 -prof gc 로 실행해서 gc.alloc.rate.norm 값으로 비교한다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Thread)
+public class SaleBenchmark {
+    private static final long FEE = 10_000L;
+
+    private Bag bag;
+    private Audience audience;
+    private Ticket ticket;
+    private TicketOffice ticketOffice;
+
+    private BoxedBag boxedBag;
+    private BoxedAudience boxedAudience;
+    private BoxedTicket boxedTicket;
+    private BoxedTicketOffice boxedTicketOffice;
+
+    @Setup
+    public void setUp() {
+        bag = new Bag(Long.MAX_VALUE / 2);
+        audience = new Audience(bag);
+        ticket = new Ticket(FEE);
+        ticketOffice = new TicketOffice(0L);
+
+        boxedBag = new BoxedBag(Long.MAX_VALUE / 2);
+        boxedAudience = new BoxedAudience(boxedBag);
+        boxedTicket = new BoxedTicket(FEE);
+        boxedTicketOffice = new BoxedTicketOffice(0L);
+    }
+
+    @Benchmark
+    public long boxedSale() {
+        boxedTicketOffice.plusAmount(boxedAudience.buy(boxedTicket));
+        return boxedTicketOffice.amount;
+    }
+
+    @Benchmark
+    public long primitiveSale() {
+        ticketOffice.plusAmount(audience.buy(ticket));
+        return bag.getAmount();
+    }
+
+    // 이전의 박싱된 Long 기반 판매 경로를 그대로 옮겨 둔 비교 대상
+    static class BoxedTicket {
+        private final Long fee;
+
+        BoxedTicket(Long fee) {
+            this.fee = fee;
+        }
+
+        Long getFee() {
+            return fee;
+        }
+    }
+
+    static class BoxedBag {
+        private Long amount;
+        private BoxedTicket ticket;
+
+        BoxedBag(Long amount) {
+            this.amount = amount;
+        }
+
+        void setTicket(BoxedTicket ticket) {
+            this.ticket = ticket;
+        }
+
+        void minusAmount(Long amount) {
+            this.amount -= amount;
+        }
+    }
+
+    static class BoxedAudience {
+        private final BoxedBag bag;
+
+        BoxedAudience(BoxedBag bag) {
+            this.bag = bag;
+        }
+
+        Long buy(BoxedTicket ticket) {
+            bag.setTicket(ticket);
+            bag.minusAmount(ticket.getFee());
+            return ticket.getFee();
+        }
+    }
+
+    static class BoxedTicketOffice {
+        private Long amount;
+
+        BoxedTicketOffice(Long amount) {
+            this.amount = amount;
+        }
+
+        void plusAmount(Long amount) {
+            this.amount += amount;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ticket;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class TicketOfficeBenchmark {
+    private static final long FEE = 10_000L;
+    private static final int TICKETS = 10_000;
+
+    private TicketOffice ticketOffice;
+
+    @State(Scope.Thread)
+    public static class Seller {
+        private TicketSeller ticketSeller;
+        private Bag bag;
+        private Ticket spare;
+
+        @Setup
+        public void setUp(TicketOfficeBenchmark benchmark) {
+            ticketSeller = new TicketSeller(benchmark.ticketOffice);
+            bag = new Bag(Long.MAX_VALUE);
+            spare = new Ticket(FEE);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Ticket[] tickets = new Ticket[TICKETS];
+        for (int i = 0; i < TICKETS; i++) {
+            tickets[i] = new Ticket(FEE);
+        }
+        ticketOffice = new TicketOffice(0L, tickets);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean sellers01(Seller seller) {
+        return sell(seller);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean sellers02(Seller seller) {
+        return sell(seller);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean sellers04(Seller seller) {
+        return sell(seller);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean sellers08(Seller seller) {
+        return sell(seller);
+    }
+
+    // 판매한 티켓을 다시 매표소에 채워 넣어 측정 중에 매진되지 않도록 한다.
+    private boolean sell(Seller seller) {
+        boolean sold = seller.ticketSeller.sellTo(new Audience(seller.bag));
+        ticketOffice.addTickets(seller.spare);
+        return sold;
+    }
+}
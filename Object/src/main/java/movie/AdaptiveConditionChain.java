@@ -0,0 +1,120 @@
+package movie;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조건 중 하나만 만족하면 되므로 (평균 비용 / 적중률) 이 낮은 조건부터 검사하면 평균 비용이 가장 작아진다.
+// 통계는 SAMPLE_MASK + 1 번에 한 번만 모은다. 나머지 평가는 현재 순서대로 조건만 검사한다.
+class AdaptiveConditionChain {
+    private static final int SAMPLE_MASK = 63;
+    private static final int REORDER_MASK = 63;
+    private static final double DECAY = 0.5;
+
+    private final DiscountCondition[] conditions;
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder[] hits;
+    private final LongAdder[] costNanos;
+    private final double[] hitRates;
+    private final double[] costs;
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private volatile DiscountCondition[] ordered;
+    private int[] order;
+
+    AdaptiveConditionChain(List<DiscountCondition> conditions) {
+        int size = conditions.size();
+        this.conditions = conditions.toArray(new DiscountCondition[0]);
+        this.hits = newAdders(size);
+        this.costNanos = newAdders(size);
+        this.hitRates = new double[size];
+        this.costs = new double[size];
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            hitRates[i] = 0.5;
+            costs[i] = 1.0;
+        }
+        this.ordered = this.conditions.clone();
+    }
+
+    boolean isSatisfiedBy(Screening screening) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if ((random.nextInt() & SAMPLE_MASK) != 0) {
+            for (DiscountCondition condition : ordered) {
+                if (condition.isSatisfiedBy(screening)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        boolean satisfied = sample(screening);
+        if ((random.nextInt() & REORDER_MASK) == 0) {
+            reorder();
+        }
+        return satisfied;
+    }
+
+    // 표본으로 뽑힌 평가는 앞 조건의 결과에 치우치지 않도록 모든 조건을 한 번씩 재 본다.
+    private boolean sample(Screening screening) {
+        samples.increment();
+        boolean satisfied = false;
+        for (int i = 0; i < conditions.length; i++) {
+            long start = System.nanoTime();
+            boolean hit = conditions[i].isSatisfiedBy(screening);
+            costNanos[i].add(System.nanoTime() - start);
+            if (hit) {
+                hits[i].increment();
+                satisfied = true;
+            }
+        }
+        return satisfied;
+    }
+
+    List<DiscountCondition> currentOrder() {
+        return List.of(ordered);
+    }
+
+    // 한 스레드만 통계를 모아 새 순서를 만들고, 읽는 쪽은 배열을 통째로 바꿔 끼운 결과만 본다.
+    void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long sampled = samples.sumThenReset();
+            if (sampled == 0) {
+                return;
+            }
+            for (int i = 0; i < conditions.length; i++) {
+                double hitRate = (hits[i].sumThenReset() + 1.0) / (sampled + 2.0);
+                double cost = Math.max(1.0, (double) costNanos[i].sumThenReset() / sampled);
+                hitRates[i] = DECAY * hitRates[i] + (1 - DECAY) * hitRate;
+                costs[i] = DECAY * costs[i] + (1 - DECAY) * cost;
+            }
+            Integer[] indexes = new Integer[conditions.length];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = order[i];
+            }
+            Arrays.sort(indexes, Comparator.comparingDouble(i -> costs[i] / hitRates[i]));
+            int[] next = Arrays.stream(indexes).mapToInt(Integer::intValue).toArray();
+            DiscountCondition[] nextOrdered = new DiscountCondition[next.length];
+            for (int i = 0; i < next.length; i++) {
+                nextOrdered[i] = conditions[next[i]];
+            }
+            order = next;
+            ordered = nextOrdered;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -8,6 +8,10 @@ public class AmountDiscountPolicy extends DefaultDiscountPolicy {
         this.discountAmount = discountAmount;
     }
 
+    Money getDiscountAmount() {
+        return discountAmount;
+    }
+
     @Override
     protected Money getDiscountAmount(Screening screening) {
         return discountAmount;
@@ -3,10 +3,23 @@ package movie;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.List;
 
 public class Client {
     public static void main(String[] args) {
-        Movie avatar = new Movie("아바타",
+        Movie avatar = avatar();
+
+        Movie titanic = titanic();
+
+        Movie starWars = starWars();
+    }
+
+    static List<Movie> movies() {
+        return List.of(avatar(), titanic(), starWars());
+    }
+
+    static Movie avatar() {
+        return new Movie("아바타",
                 Duration.ofMinutes(120),
                 Money.wons(10000),
                 new AmountDiscountPolicy(Money.wons(800),
@@ -14,17 +27,20 @@ public class Client {
                         new SequenceCondition(10),
                         new PeriodCondition(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 59)),
                         new PeriodCondition(DayOfWeek.THURSDAY, LocalTime.of(10, 0), LocalTime.of(20, 59))));
+    }
 
-        Movie titanic = new Movie("타이타닉",
+    static Movie titanic() {
+        return new Movie("타이타닉",
                 Duration.ofMinutes(180),
                 Money.wons(11000),
                 new PercentDiscountPolicy(0.1,
                         new PeriodCondition(DayOfWeek.TUESDAY, LocalTime.of(14, 0), LocalTime.of(16, 59)),
                         new SequenceCondition(2),
                         new PeriodCondition(DayOfWeek.THURSDAY, LocalTime.of(10, 0), LocalTime.of(13, 59))));
+    }
 
-
-        Movie starWars = new Movie("스타워즈",
+    static Movie starWars() {
+        return new Movie("스타워즈",
                 Duration.ofMinutes(210),
                 Money.wons(10000),
                 new NoneDiscountPolicy());
@@ -0,0 +1,138 @@
+package movie;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+public class CompiledDiscountPolicy implements DiscountPolicy {
+    private static final long[] EMPTY = new long[0];
+
+    private final DefaultDiscountPolicy policy;
+    private final BitSet sequences = new BitSet();
+    private final long[][] periodStarts = new long[DayOfWeek.values().length][];
+    private final long[][] periodEnds = new long[DayOfWeek.values().length][];
+    private final DiscountCondition[] otherConditions;
+
+    // calculateDiscountAmount 를 재정의한 하위 클래스는 조건 평가 방식이 다를 수 있으므로 그대로 둔다.
+    public static DiscountPolicy compile(DiscountPolicy policy) {
+        if (DefaultDiscountPolicy.evaluatesConditions(policy)) {
+            return new CompiledDiscountPolicy((DefaultDiscountPolicy) policy);
+        }
+        return policy;
+    }
+
+    public CompiledDiscountPolicy(DefaultDiscountPolicy policy) {
+        this.policy = policy;
+
+        List<List<long[]>> periods = new ArrayList<>();
+        for (int i = 0; i < periodStarts.length; i++) {
+            periods.add(new ArrayList<>());
+        }
+        List<DiscountCondition> others = new ArrayList<>();
+
+        for (DiscountCondition condition : policy.getConditions()) {
+            if (condition instanceof SequenceCondition && ((SequenceCondition) condition).getSequence() >= 0) {
+                sequences.set(((SequenceCondition) condition).getSequence());
+            } else if (condition instanceof PeriodCondition) {
+                PeriodCondition period = (PeriodCondition) condition;
+                long start = period.getStartTime().toNanoOfDay();
+                long end = period.getEndTime().toNanoOfDay();
+                if (start <= end) {
+                    periods.get(period.getDayOfWeek().ordinal()).add(new long[]{start, end});
+                }
+            } else {
+                others.add(condition);
+            }
+        }
+
+        for (int day = 0; day < periodStarts.length; day++) {
+            compilePeriods(day, periods.get(day));
+        }
+        this.otherConditions = others.toArray(new DiscountCondition[0]);
+    }
+
+    // 겹치거나 맞닿은 구간은 하나로 합쳐 두고 이진 탐색으로 찾는다.
+    private void compilePeriods(int day, List<long[]> intervals) {
+        if (intervals.isEmpty()) {
+            periodStarts[day] = EMPTY;
+            periodEnds[day] = EMPTY;
+            return;
+        }
+        intervals.sort(Comparator.comparingLong(interval -> interval[0]));
+
+        List<long[]> merged = new ArrayList<>();
+        long[] current = intervals.get(0).clone();
+        for (long[] interval : intervals.subList(1, intervals.size())) {
+            if (interval[0] <= current[1] + 1) {
+                current[1] = Math.max(current[1], interval[1]);
+            } else {
+                merged.add(current);
+                current = interval.clone();
+            }
+        }
+        merged.add(current);
+
+        periodStarts[day] = merged.stream().mapToLong(interval -> interval[0]).toArray();
+        periodEnds[day] = merged.stream().mapToLong(interval -> interval[1]).toArray();
+    }
+
+    @Override
+    public Money calculateDiscountAmount(Screening screening) {
+        if (isSatisfiedBy(screening)) {
+            return policy.getDiscountAmount(screening);
+        }
+        return Money.ZERO;
+    }
+
+    @Override
+    public Money calculateDiscountAmount(Screening screening, Money movieFee) {
+        if (isSatisfiedBy(screening)) {
+            return policy.getDiscountAmount(screening, movieFee);
+        }
+        return Money.ZERO;
+    }
+
+    public boolean isSatisfiedBy(Screening screening) {
+        LocalDateTime startTime = screening.getStartTime();
+        int dayOfWeek = startTime.getDayOfWeek().ordinal();
+        if (matches(screening.getSequence(), dayOfWeek, startTime.toLocalTime().toNanoOfDay())) {
+            return true;
+        }
+        for (DiscountCondition condition : otherConditions) {
+            if (condition.isSatisfiedBy(screening)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean matches(int sequence, int dayOfWeek, long nanoOfDay) {
+        return (sequence >= 0 && sequences.get(sequence)) || inPeriod(dayOfWeek, nanoOfDay);
+    }
+
+    boolean hasOtherConditions() {
+        return otherConditions.length > 0;
+    }
+
+    DefaultDiscountPolicy getPolicy() {
+        return policy;
+    }
+
+    private boolean inPeriod(int day, long nanoOfDay) {
+        long[] starts = periodStarts[day];
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= nanoOfDay) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high >= 0 && nanoOfDay <= periodEnds[day][high];
+    }
+}
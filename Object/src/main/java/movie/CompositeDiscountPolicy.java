@@ -0,0 +1,95 @@
+package movie;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class CompositeDiscountPolicy implements DiscountPolicy {
+    public enum Mode {
+        MAX, SUM, FIRST
+    }
+
+    private final Mode mode;
+    private final Child[] children;
+
+    public static CompositeDiscountPolicy maxOf(DiscountPolicy... policies) {
+        return new CompositeDiscountPolicy(Mode.MAX, policies);
+    }
+
+    public static CompositeDiscountPolicy sumOf(DiscountPolicy... policies) {
+        return new CompositeDiscountPolicy(Mode.SUM, policies);
+    }
+
+    public static CompositeDiscountPolicy firstOf(DiscountPolicy... policies) {
+        return new CompositeDiscountPolicy(Mode.FIRST, policies);
+    }
+
+    public CompositeDiscountPolicy(Mode mode, DiscountPolicy... policies) {
+        this.mode = mode;
+        this.children = Arrays.stream(policies).map(Child::new).toArray(Child[]::new);
+    }
+
+    // FIRST 는 선언한 정책 순서를 지키고, 각 정책 안의 조건 검사 순서만 바꾼다.
+    @Override
+    public Money calculateDiscountAmount(Screening screening) {
+        return calculateDiscountAmount(screening, screening.getMovieFee());
+    }
+
+    @Override
+    public Money calculateDiscountAmount(Screening screening, Money movieFee) {
+        Money result = Money.ZERO;
+        for (Child child : children) {
+            Money discount = child.calculateDiscountAmount(screening, movieFee);
+            if (!Money.ZERO.isLessThan(discount)) {
+                continue;
+            }
+            switch (mode) {
+                case FIRST:
+                    return discount;
+                case SUM:
+                    result = result.plus(discount);
+                    break;
+                case MAX:
+                    if (result.isLessThan(discount)) {
+                        result = discount;
+                    }
+                    break;
+            }
+        }
+        if (mode == Mode.SUM && movieFee.isLessThan(result)) {
+            return movieFee;
+        }
+        return result;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    List<DiscountCondition> conditionOrder(int child) {
+        AdaptiveConditionChain chain = children[child].chain;
+        return chain == null ? List.of() : chain.currentOrder();
+    }
+
+    private static class Child {
+        private final DiscountPolicy policy;
+        private final AdaptiveConditionChain chain;
+
+        Child(DiscountPolicy policy) {
+            this.policy = policy;
+            // calculateDiscountAmount 를 재정의한 정책은 그 구현을 그대로 쓴다.
+            this.chain = DefaultDiscountPolicy.evaluatesConditions(policy)
+                    ? new AdaptiveConditionChain(((DefaultDiscountPolicy) policy).getConditions())
+                    : null;
+        }
+
+        Money calculateDiscountAmount(Screening screening, Money movieFee) {
+            if (chain == null) {
+                return policy.calculateDiscountAmount(screening, movieFee);
+            }
+            if (chain.isSatisfiedBy(screening)) {
+                return ((DefaultDiscountPolicy) policy).getDiscountAmount(screening, movieFee);
+            }
+            return Money.ZERO;
+        }
+    }
+}
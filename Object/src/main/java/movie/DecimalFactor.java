@@ -0,0 +1,43 @@
+package movie;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 곱할 비율을 한 번만 10진수 (unscaled, scale) 로 분해해 두고, 곱할 때는 long 연산만 한다.
+public final class DecimalFactor {
+    private static final int MAX_SCALE = 18;
+
+    private final long unscaled;
+    private final int scale;
+    // 18자리 long 으로 담을 수 없는 비율만 BigDecimal 로 계산한다.
+    private final BigDecimal fallback;
+
+    public static DecimalFactor of(double factor) {
+        if (Double.isNaN(factor) || Double.isInfinite(factor)) {
+            throw new ArithmeticException("factor is not finite: " + factor);
+        }
+        BigDecimal decimal = BigDecimal.valueOf(factor);
+        if (decimal.scale() >= 0 && decimal.scale() <= MAX_SCALE && decimal.precision() <= MAX_SCALE) {
+            return new DecimalFactor(decimal.unscaledValue().longValue(), decimal.scale(), null);
+        }
+        return new DecimalFactor(0, 0, decimal);
+    }
+
+    private DecimalFactor(long unscaled, int scale, BigDecimal fallback) {
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.fallback = fallback;
+    }
+
+    long applyTo(long minorUnits, RoundingMode roundingMode) {
+        if (fallback != null) {
+            return BigDecimal.valueOf(minorUnits).multiply(fallback).setScale(0, roundingMode).longValueExact();
+        }
+        return LongMoney.multiply(minorUnits, unscaled, scale, roundingMode);
+    }
+
+    @Override
+    public String toString() {
+        return fallback != null ? fallback.toString() : BigDecimal.valueOf(unscaled, scale).toString();
+    }
+}
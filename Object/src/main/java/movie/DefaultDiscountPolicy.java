@@ -7,9 +7,11 @@ import java.util.List;
 public abstract class DefaultDiscountPolicy implements DiscountPolicy {
 
     private List<DiscountCondition> conditions = new ArrayList<>();
+    private final boolean evaluatesConditions;
 
     public DefaultDiscountPolicy(DiscountCondition... conditions) {
         this.conditions.addAll(Arrays.asList(conditions));
+        this.evaluatesConditions = evaluatesConditions(this);
     }
     public Money calculateDiscountAmount(Screening screening) {
         for (DiscountCondition condition : conditions) {
@@ -20,5 +22,39 @@ public abstract class DefaultDiscountPolicy implements DiscountPolicy {
         return Money.ZERO;
     }
 
+    @Override
+    public Money calculateDiscountAmount(Screening screening, Money movieFee) {
+        if (!evaluatesConditions) {
+            return calculateDiscountAmount(screening);
+        }
+        for (DiscountCondition condition : conditions) {
+            if (condition.isSatisfiedBy(screening)) {
+                return getDiscountAmount(screening, movieFee);
+            }
+        }
+        return Money.ZERO;
+    }
+
+    List<DiscountCondition> getConditions() {
+        return conditions;
+    }
+
+    // calculateDiscountAmount 를 재정의하지 않았다면 조건 중 하나라도 맞을 때 getDiscountAmount 를 쓰는 것과 같다.
+    static boolean evaluatesConditions(DiscountPolicy policy) {
+        if (!(policy instanceof DefaultDiscountPolicy)) {
+            return false;
+        }
+        try {
+            return policy.getClass().getMethod("calculateDiscountAmount", Screening.class)
+                    .getDeclaringClass() == DefaultDiscountPolicy.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     protected abstract Money getDiscountAmount(Screening screening);
+
+    Money getDiscountAmount(Screening screening, Money movieFee) {
+        return getDiscountAmount(screening);
+    }
 }
@@ -2,4 +2,9 @@ package movie;
 
 public interface DiscountPolicy {
     Money calculateDiscountAmount(Screening screening);
+
+    // 호출한 쪽이 이미 읽은 요금으로 할인을 계산한다. 요금을 쓰지 않는 정책은 재정의하지 않아도 된다.
+    default Money calculateDiscountAmount(Screening screening, Money movieFee) {
+        return calculateDiscountAmount(screening);
+    }
 }
@@ -0,0 +1,49 @@
+package movie;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 영화 목록은 바뀔 때마다 새 불변 맵으로 교체하고, 읽는 쪽은 volatile 읽기 한 번으로 스냅숏을 얻는다.
+public class DiscountPolicyRegistry {
+    private volatile Map<String, Movie> movies = Map.of();
+
+    public synchronized void register(Movie movie) {
+        Map<String, Movie> copy = new HashMap<>(movies);
+        copy.put(movie.getTitle(), movie);
+        movies = Map.copyOf(copy);
+    }
+
+    public synchronized void unregister(String title) {
+        Map<String, Movie> copy = new HashMap<>(movies);
+        copy.remove(title);
+        movies = Map.copyOf(copy);
+    }
+
+    public Movie find(String title) {
+        return movies.get(title);
+    }
+
+    public Map<String, Movie> snapshot() {
+        return movies;
+    }
+
+    public void replaceDiscountPolicy(String title, DiscountPolicy discountPolicy) {
+        movieOf(title).changeDiscountPolicy(discountPolicy);
+    }
+
+    public void replaceFee(String title, Money fee) {
+        movieOf(title).changeFee(fee);
+    }
+
+    public void replacePricing(String title, Money fee, DiscountPolicy discountPolicy) {
+        movieOf(title).changePricing(fee, discountPolicy);
+    }
+
+    private Movie movieOf(String title) {
+        Movie movie = movies.get(title);
+        if (movie == null) {
+            throw new IllegalArgumentException("unregistered movie: " + title);
+        }
+        return movie;
+    }
+}
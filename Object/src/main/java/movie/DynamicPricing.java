@@ -0,0 +1,226 @@
+package movie;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// 상영별 점유율 구간에 따라 할인이 반영된 요금에 배율을 곱한다.
+// 좌석 배치도가 있는 상영은 배치도에서 잡힌 좌석 수로 점유율을 구하므로 Screening.reserve 로 직접 예매해도 반영된다.
+// 배치도가 없는 상영은 이 객체의 reserve 와 cancel 로만 집계된다.
+public class DynamicPricing {
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMillis(50);
+    private static final long EVICTION_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final int defaultCapacity;
+    private final double[] thresholds;
+    private final double[] multipliers;
+    private final long refreshIntervalNanos;
+    private final Clock clock;
+    private final Map<Screening, Occupancy> occupancies = new ConcurrentHashMap<>();
+    private final AtomicLong nextEvictionNanos = new AtomicLong(System.nanoTime());
+
+    public static DynamicPricing standard(int defaultCapacity) {
+        return new DynamicPricing(defaultCapacity, new double[]{0.5, 0.8}, new double[]{1.0, 1.1, 1.2},
+                DEFAULT_REFRESH_INTERVAL);
+    }
+
+    // thresholds[i] 이상의 점유율부터 multipliers[i + 1] 을 적용한다.
+    public DynamicPricing(int defaultCapacity, double[] thresholds, double[] multipliers, Duration refreshInterval) {
+        this(defaultCapacity, thresholds, multipliers, refreshInterval, Clock.systemDefaultZone());
+    }
+
+    public DynamicPricing(int defaultCapacity, double[] thresholds, double[] multipliers, Duration refreshInterval,
+                          Clock clock) {
+        if (defaultCapacity <= 0) {
+            throw new IllegalArgumentException("defaultCapacity must be positive");
+        }
+        if (multipliers.length != thresholds.length + 1) {
+            throw new IllegalArgumentException("multipliers must have one more element than thresholds");
+        }
+        for (int i = 0; i < thresholds.length; i++) {
+            if (thresholds[i] <= 0 || thresholds[i] > 1 || (i > 0 && thresholds[i] <= thresholds[i - 1])) {
+                throw new IllegalArgumentException("thresholds must be ascending within (0, 1]");
+            }
+        }
+        for (double multiplier : multipliers) {
+            if (multiplier <= 0) {
+                throw new IllegalArgumentException("multipliers must be positive");
+            }
+        }
+        this.defaultCapacity = defaultCapacity;
+        this.thresholds = thresholds.clone();
+        this.multipliers = multipliers.clone();
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.clock = clock;
+    }
+
+    // 이미 시작한 상영은 더 팔지 않으므로 점유율 없이 기본 구간의 요금을 돌려준다.
+    public Money calculateMovieFee(Screening screening) {
+        if (hasStarted(screening)) {
+            return screening.getMovie().calculateMovieFee(screening).times(multipliers[0]);
+        }
+        return occupancyOf(screening).currentFee();
+    }
+
+    public Reservation reserve(Screening screening, Customer customer, int audienceCount) {
+        if (hasStarted(screening)) {
+            throw new IllegalStateException("screening has already started: " + screening.getStartTime());
+        }
+        Occupancy occupancy = occupancyOf(screening);
+        Reservation reservation = screening.reserve(customer, audienceCount, occupancy.currentFee());
+        occupancy.record(audienceCount);
+        return reservation;
+    }
+
+    // 좌석 배치도로 점유율을 구하는 상영은 좌석을 돌려줘야 점유율이 내려간다.
+    public void cancel(Reservation reservation) {
+        reservation.getScreening().cancel(reservation);
+        Occupancy occupancy = occupancies.get(reservation.getScreening());
+        if (occupancy != null) {
+            occupancy.record(-reservation.getAudienceCount());
+        }
+    }
+
+    public long reservedSeats(Screening screening) {
+        Occupancy occupancy = occupancies.get(screening);
+        if (occupancy == null) {
+            return screening.getSeatMap() == null ? 0 : claimedSeats(screening.getSeatMap());
+        }
+        return occupancy.reservedSeats();
+    }
+
+    public double multiplierOf(Screening screening) {
+        return multipliers[occupancyOf(screening).level.get().tier];
+    }
+
+    // 시작한 상영의 점유율을 버린다. 새 상영이 등록될 때도 주기마다 한 번씩 불린다.
+    public int evictStarted() {
+        long now = clock.millis();
+        int evicted = 0;
+        for (Occupancy occupancy : occupancies.values()) {
+            if (now >= occupancy.startMillis && occupancies.remove(occupancy.screening, occupancy)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private boolean hasStarted(Screening screening) {
+        Occupancy occupancy = occupancies.get(screening);
+        long startMillis = occupancy == null ? startMillisOf(screening) : occupancy.startMillis;
+        return clock.millis() >= startMillis;
+    }
+
+    private long startMillisOf(Screening screening) {
+        return screening.getStartTime().atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private Occupancy occupancyOf(Screening screening) {
+        Occupancy occupancy = occupancies.get(screening);
+        if (occupancy == null) {
+            evictIfDue();
+            occupancy = occupancies.computeIfAbsent(screening, Occupancy::new);
+        }
+        return occupancy;
+    }
+
+    private void evictIfDue() {
+        long now = System.nanoTime();
+        long next = nextEvictionNanos.get();
+        if (now - next >= 0 && nextEvictionNanos.compareAndSet(next, now + EVICTION_INTERVAL_NANOS)) {
+            evictStarted();
+        }
+    }
+
+    private static long claimedSeats(SeatMap seatMap) {
+        return (long) seatMap.getRows() * seatMap.getSeatsPerRow() - seatMap.availableSeats();
+    }
+
+    private int tierOf(long reserved, int capacity) {
+        double rate = (double) reserved / capacity;
+        int tier = 0;
+        while (tier < thresholds.length && rate >= thresholds[tier]) {
+            tier++;
+        }
+        return tier;
+    }
+
+    private class Occupancy {
+        private final Screening screening;
+        private final SeatMap seatMap;
+        private final long startMillis;
+        private final int capacity;
+        private final LongAdder reserved = new LongAdder();
+        private final AtomicLong nextRefreshNanos = new AtomicLong(System.nanoTime());
+        private final AtomicReference<Level> level;
+
+        Occupancy(Screening screening) {
+            SeatMap seatMap = screening.getSeatMap();
+            this.screening = screening;
+            this.seatMap = seatMap;
+            this.startMillis = startMillisOf(screening);
+            this.capacity = seatMap == null ? defaultCapacity : seatMap.getRows() * seatMap.getSeatsPerRow();
+            this.level = new AtomicReference<>(price(0));
+        }
+
+        // 요금은 점유율 구간이나 영화의 revision 이 바뀔 때만 다시 계산한다.
+        // 예매가 뜸해도 구간이 갱신되도록 조회할 때도 갱신 주기를 확인한다.
+        Money currentFee() {
+            refreshIfDue();
+            Level current = level.get();
+            if (current.revision == screening.getMovie().getRevision()) {
+                return current.fee;
+            }
+            Level repriced = price(current.tier);
+            level.compareAndSet(current, repriced);
+            return repriced.fee;
+        }
+
+        // 예매 경로에서는 스트라이프 카운터에 더하기만 하고, 합산은 갱신 주기마다 CAS 에 이긴 스레드 하나만 한다.
+        void record(int audienceCount) {
+            reserved.add(audienceCount);
+            refreshIfDue();
+        }
+
+        // 배치도가 있으면 홀드 중인 좌석까지 포함해 실제로 잡힌 좌석을 센다.
+        long reservedSeats() {
+            return seatMap == null ? reserved.sum() : claimedSeats(seatMap);
+        }
+
+        private void refreshIfDue() {
+            long now = System.nanoTime();
+            long next = nextRefreshNanos.get();
+            if (now - next < 0 || !nextRefreshNanos.compareAndSet(next, now + refreshIntervalNanos)) {
+                return;
+            }
+            int tier = tierOf(reservedSeats(), capacity);
+            Level current = level.get();
+            while (current.tier != tier && !level.compareAndSet(current, price(tier))) {
+                current = level.get();
+            }
+        }
+
+        private Level price(int tier) {
+            // revision 을 먼저 읽어 두면 계산 도중 요금이 바뀌어도 다음 조회에서 다시 계산된다.
+            long revision = screening.getMovie().getRevision();
+            Money fee = screening.getMovie().calculateMovieFee(screening).times(multipliers[tier]);
+            return new Level(tier, revision, fee);
+        }
+    }
+
+    private static class Level {
+        private final int tier;
+        private final long revision;
+        private final Money fee;
+
+        Level(int tier, long revision, Money fee) {
+            this.tier = tier;
+            this.revision = revision;
+            this.fee = fee;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package movie;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class FeeCache {
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public FeeCache(int maximumSize) {
+        this(maximumSize, DEFAULT_SEGMENTS);
+    }
+
+    public FeeCache(int maximumSize, int segmentCount) {
+        if (maximumSize <= 0 || segmentCount <= 0) {
+            throw new IllegalArgumentException("maximumSize and segmentCount must be positive");
+        }
+        int segmentSize = Math.max(1, (maximumSize + segmentCount - 1) / segmentCount);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    // 영화의 요금이나 할인 정책이 바뀌면 revision 이 달라지므로 이전 값은 미스로 처리된다.
+    public Money calculateMovieFee(Screening screening) {
+        Movie movie = screening.getMovie();
+        long revision = movie.getRevision();
+        Slot slot = new Slot(movie, screening.getSequence(), screening.getStartTime());
+        Segment segment = segmentFor(slot);
+
+        CachedFee cached = segment.get(slot);
+        if (cached != null && cached.revision == revision) {
+            hits.increment();
+            return cached.fee;
+        }
+
+        misses.increment();
+        Money fee = movie.calculateMovieFee(screening);
+        segment.put(slot, new CachedFee(fee, revision));
+        return fee;
+    }
+
+    public Reservation reserve(Screening screening, Customer customer, int audienceCount) {
+        return screening.reserve(customer, audienceCount, calculateMovieFee(screening));
+    }
+
+    public void invalidate(Movie movie) {
+        for (Segment segment : segments) {
+            segment.removeMovie(movie);
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public double hitRate() {
+        long hitCount = hitCount();
+        long requestCount = hitCount + missCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(Slot slot) {
+        int hash = slot.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private static class Slot {
+        private final Movie movie;
+        private final int sequence;
+        private final LocalDateTime startTime;
+
+        Slot(Movie movie, int sequence, LocalDateTime startTime) {
+            this.movie = movie;
+            this.sequence = sequence;
+            this.startTime = startTime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Slot)) return false;
+            Slot slot = (Slot) o;
+            return movie == slot.movie && sequence == slot.sequence && startTime.equals(slot.startTime);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(movie);
+            result = 31 * result + sequence;
+            return 31 * result + startTime.hashCode();
+        }
+    }
+
+    private static class CachedFee {
+        private final Money fee;
+        private final long revision;
+
+        CachedFee(Money fee, long revision) {
+            this.fee = fee;
+            this.revision = revision;
+        }
+    }
+
+    private class Segment {
+        private final Map<Slot, CachedFee> entries;
+
+        Segment(int maximumSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Slot, CachedFee> eldest) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized CachedFee get(Slot slot) {
+            return entries.get(slot);
+        }
+
+        synchronized void put(Slot slot, CachedFee fee) {
+            entries.put(slot, fee);
+        }
+
+        synchronized void removeMovie(Movie movie) {
+            entries.keySet().removeIf(slot -> slot.movie == movie);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package movie;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class LongMoney {
+    // 1원 = 100전, 금액은 전 단위의 long 으로 보관한다.
+    public static final int SCALE = 2;
+    public static final long MINOR_UNITS_PER_WON = 100;
+
+    public static final LongMoney ZERO = new LongMoney(0);
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private final long minorUnits;
+
+    public static LongMoney wons(long amount) {
+        return new LongMoney(Math.multiplyExact(amount, MINOR_UNITS_PER_WON));
+    }
+
+    public static LongMoney ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new LongMoney(minorUnits);
+    }
+
+    public static LongMoney from(Money money, RoundingMode roundingMode) {
+        return new LongMoney(money.toMinorUnits(roundingMode));
+    }
+
+    private LongMoney(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public LongMoney plus(LongMoney amount) {
+        if (amount.minorUnits == 0) {
+            return this;
+        }
+        return new LongMoney(Math.addExact(minorUnits, amount.minorUnits));
+    }
+
+    public LongMoney minus(LongMoney amount) {
+        if (amount.minorUnits == 0) {
+            return this;
+        }
+        return new LongMoney(Math.subtractExact(minorUnits, amount.minorUnits));
+    }
+
+    public LongMoney times(long count) {
+        if (count == 1) {
+            return this;
+        }
+        return ofMinorUnits(Math.multiplyExact(minorUnits, count));
+    }
+
+    public LongMoney times(double percent, RoundingMode roundingMode) {
+        return times(DecimalFactor.of(percent), roundingMode);
+    }
+
+    public LongMoney times(DecimalFactor factor, RoundingMode roundingMode) {
+        return ofMinorUnits(factor.applyTo(minorUnits, roundingMode));
+    }
+
+    public boolean isLessThan(LongMoney other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public boolean isGreaterThanOrEqual(LongMoney other) {
+        return minorUnits >= other.minorUnits;
+    }
+
+    public Money toMoney() {
+        return new Money(BigDecimal.valueOf(minorUnits, SCALE));
+    }
+
+    // double 곱은 2진 근삿값이라 반올림 경계에서 틀리므로, factor 를 Money.times 와 같은 10진수로 바꿔 정수로 계산한다.
+    // 같은 비율을 반복해서 곱한다면 DecimalFactor 를 한 번 만들어 두고 쓴다.
+    static long multiply(long minorUnits, double factor, RoundingMode roundingMode) {
+        return DecimalFactor.of(factor).applyTo(minorUnits, roundingMode);
+    }
+
+    // minorUnits * unscaled / 10^scale 를 주어진 방식으로 반올림한다.
+    static long multiply(long minorUnits, long unscaled, int scale, RoundingMode roundingMode) {
+        long high = Math.multiplyHigh(minorUnits, unscaled);
+        long product = minorUnits * unscaled;
+        if (high != (product >> 63)) {
+            return BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(unscaled, scale))
+                    .setScale(0, roundingMode).longValueExact();
+        }
+        return divide(product, POWERS_OF_TEN[scale], roundingMode);
+    }
+
+    private static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = dividend < 0 ? -1 : 1;
+        // 나머지의 두 배와 제수를 비교해 절반보다 큰지 본다. 제수는 10^18 이하라 넘치지 않는다.
+        int half = Long.compare(Math.abs(remainder), divisor - Math.abs(remainder));
+        boolean awayFromZero;
+        switch (roundingMode) {
+            case UP:
+                awayFromZero = true;
+                break;
+            case DOWN:
+                awayFromZero = false;
+                break;
+            case CEILING:
+                awayFromZero = sign > 0;
+                break;
+            case FLOOR:
+                awayFromZero = sign < 0;
+                break;
+            case HALF_UP:
+                awayFromZero = half >= 0;
+                break;
+            case HALF_DOWN:
+                awayFromZero = half > 0;
+                break;
+            case HALF_EVEN:
+                awayFromZero = half > 0 || (half == 0 && (quotient & 1) != 0);
+                break;
+            case UNNECESSARY:
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+        return awayFromZero ? quotient + sign : quotient;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongMoney)) return false;
+        return minorUnits == ((LongMoney) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return BigDecimal.valueOf(minorUnits, SCALE).toPlainString();
+    }
+}
@@ -0,0 +1,90 @@
+package movie;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MeteredDiscountCondition implements DiscountCondition {
+    private final DiscountCondition condition;
+    private final int sampleMask;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public MeteredDiscountCondition(DiscountCondition condition) {
+        this(condition, MeteredDiscountPolicy.DEFAULT_SAMPLE_RATE);
+    }
+
+    // sampleRate 번에 한 번만 시간을 잰다. 횟수와 적중률은 매번 기록한다.
+    public MeteredDiscountCondition(DiscountCondition condition, int sampleRate) {
+        this.condition = condition;
+        this.sampleMask = MeteredDiscountPolicy.toSampleMask(sampleRate);
+    }
+
+    @Override
+    public boolean isSatisfiedBy(Screening screening) {
+        evaluations.increment();
+        boolean satisfied;
+        if ((ThreadLocalRandom.current().nextInt() & sampleMask) == 0) {
+            long start = System.nanoTime();
+            satisfied = condition.isSatisfiedBy(screening);
+            latency.record(System.nanoTime() - start);
+        } else {
+            satisfied = condition.isSatisfiedBy(screening);
+        }
+        if (satisfied) {
+            hits.increment();
+        }
+        return satisfied;
+    }
+
+    public DiscountCondition getCondition() {
+        return condition;
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(condition.toString(), evaluations.sum(), hits.sum(), latency.snapshot());
+    }
+
+    public static class Snapshot {
+        private final String name;
+        private final long evaluationCount;
+        private final long hitCount;
+        private final LatencyHistogram.Snapshot latency;
+
+        Snapshot(String name, long evaluationCount, long hitCount, LatencyHistogram.Snapshot latency) {
+            this.name = name;
+            this.evaluationCount = evaluationCount;
+            this.hitCount = hitCount;
+            this.latency = latency;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getEvaluationCount() {
+            return evaluationCount;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public double getHitRate() {
+            return evaluationCount == 0 ? 0 : (double) hitCount / evaluationCount;
+        }
+
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return name + "{" +
+                    "evaluations=" + evaluationCount +
+                    ", hitRate=" + String.format("%.3f", getHitRate()) +
+                    ", latency=" + latency +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package movie;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MeteredDiscountPolicy implements DiscountPolicy {
+    static final int DEFAULT_SAMPLE_RATE = 16;
+
+    private final DiscountPolicy policy;
+    private final int sampleMask;
+    // 조건을 직접 평가할 때만 채워진다. 감싼 정책의 조건 목록은 건드리지 않는다.
+    private final DefaultDiscountPolicy conditionPolicy;
+    private final MeteredDiscountCondition[] conditions;
+    private final LongAdder calculations = new LongAdder();
+    private final LongAdder discounts = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public MeteredDiscountPolicy(DiscountPolicy policy) {
+        this(policy, DEFAULT_SAMPLE_RATE);
+    }
+
+    // calculateDiscountAmount 를 재정의하지 않은 DefaultDiscountPolicy 라면 계측용 조건 사본을 만들어 이 객체 안에서 평가한다.
+    // 원래 정책은 그대로 두므로 다른 스레드나 CompiledDiscountPolicy 가 보는 조건은 바뀌지 않는다.
+    public MeteredDiscountPolicy(DiscountPolicy policy, int sampleRate) {
+        this.policy = policy;
+        this.sampleMask = toSampleMask(sampleRate);
+        if (DefaultDiscountPolicy.evaluatesConditions(policy)) {
+            this.conditionPolicy = (DefaultDiscountPolicy) policy;
+            this.conditions = conditionPolicy.getConditions().stream()
+                    .map(condition -> condition instanceof MeteredDiscountCondition
+                            ? (MeteredDiscountCondition) condition
+                            : new MeteredDiscountCondition(condition, sampleRate))
+                    .toArray(MeteredDiscountCondition[]::new);
+        } else {
+            this.conditionPolicy = null;
+            this.conditions = new MeteredDiscountCondition[0];
+        }
+    }
+
+    @Override
+    public Money calculateDiscountAmount(Screening screening) {
+        return calculateDiscountAmount(screening, screening.getMovieFee());
+    }
+
+    @Override
+    public Money calculateDiscountAmount(Screening screening, Money movieFee) {
+        calculations.increment();
+        Money discount;
+        if ((ThreadLocalRandom.current().nextInt() & sampleMask) == 0) {
+            long start = System.nanoTime();
+            discount = calculate(screening, movieFee);
+            latency.record(System.nanoTime() - start);
+        } else {
+            discount = calculate(screening, movieFee);
+        }
+        if (Money.ZERO.isLessThan(discount)) {
+            discounts.increment();
+        }
+        return discount;
+    }
+
+    private Money calculate(Screening screening, Money movieFee) {
+        if (conditionPolicy == null) {
+            return policy.calculateDiscountAmount(screening, movieFee);
+        }
+        for (MeteredDiscountCondition condition : conditions) {
+            if (condition.isSatisfiedBy(screening)) {
+                return conditionPolicy.getDiscountAmount(screening, movieFee);
+            }
+        }
+        return Money.ZERO;
+    }
+
+    public DiscountPolicy getPolicy() {
+        return policy;
+    }
+
+    public Snapshot snapshot() {
+        List<MeteredDiscountCondition.Snapshot> conditionSnapshots = new ArrayList<>();
+        for (MeteredDiscountCondition condition : conditions) {
+            conditionSnapshots.add(condition.snapshot());
+        }
+        return new Snapshot(calculations.sum(), discounts.sum(), latency.snapshot(), conditionSnapshots);
+    }
+
+    static int toSampleMask(int sampleRate) {
+        if (sampleRate <= 0 || Integer.bitCount(sampleRate) != 1) {
+            throw new IllegalArgumentException("sampleRate must be a power of two: " + sampleRate);
+        }
+        return sampleRate - 1;
+    }
+
+    public static class Snapshot {
+        private final long calculationCount;
+        private final long discountCount;
+        private final LatencyHistogram.Snapshot latency;
+        private final List<MeteredDiscountCondition.Snapshot> conditions;
+
+        Snapshot(long calculationCount, long discountCount, LatencyHistogram.Snapshot latency,
+                 List<MeteredDiscountCondition.Snapshot> conditions) {
+            this.calculationCount = calculationCount;
+            this.discountCount = discountCount;
+            this.latency = latency;
+            this.conditions = List.copyOf(conditions);
+        }
+
+        public long getCalculationCount() {
+            return calculationCount;
+        }
+
+        public long getDiscountCount() {
+            return discountCount;
+        }
+
+        public double getDiscountRate() {
+            return calculationCount == 0 ? 0 : (double) discountCount / calculationCount;
+        }
+
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        public List<MeteredDiscountCondition.Snapshot> getConditions() {
+            return conditions;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "calculations=" + calculationCount +
+                    ", discountRate=" + String.format("%.3f", getDiscountRate()) +
+                    ", latency=" + latency +
+                    ", conditions=" + conditions +
+                    '}';
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package movie;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 public class Money {
     public static final Money ZERO = Money.wons(0);
@@ -38,4 +39,8 @@ public class Money {
     public boolean isGreaterThanOrEqual(Money other) {
         return amount.compareTo(other.amount) >= 0;
     }
+
+    long toMinorUnits(RoundingMode roundingMode) {
+        return amount.setScale(LongMoney.SCALE, roundingMode).unscaledValue().longValueExact();
+    }
 }
@@ -0,0 +1,61 @@
+package movie;
+
+import java.math.RoundingMode;
+
+public final class MoneyAccumulator {
+    private long minorUnits;
+
+    public MoneyAccumulator() {
+        this(LongMoney.ZERO);
+    }
+
+    public MoneyAccumulator(LongMoney initial) {
+        this.minorUnits = initial.getMinorUnits();
+    }
+
+    public MoneyAccumulator add(LongMoney amount) {
+        minorUnits = Math.addExact(minorUnits, amount.getMinorUnits());
+        return this;
+    }
+
+    public MoneyAccumulator addMinorUnits(long amount) {
+        minorUnits = Math.addExact(minorUnits, amount);
+        return this;
+    }
+
+    public MoneyAccumulator subtract(LongMoney amount) {
+        minorUnits = Math.subtractExact(minorUnits, amount.getMinorUnits());
+        return this;
+    }
+
+    public MoneyAccumulator addTimes(LongMoney amount, long count) {
+        minorUnits = Math.addExact(minorUnits, Math.multiplyExact(amount.getMinorUnits(), count));
+        return this;
+    }
+
+    public MoneyAccumulator addTimes(LongMoney amount, double percent, RoundingMode roundingMode) {
+        return addTimes(amount, DecimalFactor.of(percent), roundingMode);
+    }
+
+    public MoneyAccumulator addTimes(LongMoney amount, DecimalFactor factor, RoundingMode roundingMode) {
+        minorUnits = Math.addExact(minorUnits, factor.applyTo(amount.getMinorUnits(), roundingMode));
+        return this;
+    }
+
+    public MoneyAccumulator combine(MoneyAccumulator other) {
+        minorUnits = Math.addExact(minorUnits, other.minorUnits);
+        return this;
+    }
+
+    public void reset() {
+        minorUnits = 0;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public LongMoney toLongMoney() {
+        return LongMoney.ofMinorUnits(minorUnits);
+    }
+}
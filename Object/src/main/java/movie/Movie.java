@@ -5,21 +5,78 @@ import java.time.Duration;
 public class Movie {
     private String title;
     private Duration runningTime;
-    private Money fee;
-    private DiscountPolicy discountPolicy;
+    private volatile Pricing pricing;
 
     public Movie(String title, Duration runningTime, Money fee, DiscountPolicy discountPolicy) {
         this.title = title;
         this.runningTime = runningTime;
-        this.fee = fee;
-        this.discountPolicy = discountPolicy;
+        this.pricing = new Pricing(fee, discountPolicy, 0);
+    }
+
+    public String getTitle() {
+        return title;
     }
 
     public Money getFee() {
-        return fee;
+        return pricing.fee;
+    }
+
+    DiscountPolicy getDiscountPolicy() {
+        return pricing.discountPolicy;
+    }
+
+    long getRevision() {
+        return pricing.revision;
+    }
+
+    Pricing getPricing() {
+        return pricing;
+    }
+
+    public void changeFee(Money fee) {
+        changePricing(fee, null);
     }
 
+    public void changeDiscountPolicy(DiscountPolicy discountPolicy) {
+        changePricing(null, discountPolicy);
+    }
+
+    // 요금과 할인 정책을 하나의 불변 스냅숏으로 함께 교체한다. null 인 값은 그대로 둔다.
+    public synchronized void changePricing(Money fee, DiscountPolicy discountPolicy) {
+        Pricing current = pricing;
+        pricing = new Pricing(
+                fee == null ? current.fee : fee,
+                discountPolicy == null ? current.discountPolicy : discountPolicy,
+                current.revision + 1);
+    }
+
+    // 스냅숏은 한 번만 읽고 그 요금을 할인 계산에 넘기므로, 계산 도중에 요금이 바뀌어도 두 스냅숏이 섞이지 않는다.
     public Money calculateMovieFee(Screening screening) {
-        return fee.minus(discountPolicy.calculateDiscountAmount(screening));
+        Pricing current = pricing;
+        return current.fee.minus(current.discountPolicy.calculateDiscountAmount(screening, current.fee));
+    }
+
+    static class Pricing {
+        private final Money fee;
+        private final DiscountPolicy discountPolicy;
+        private final long revision;
+
+        Pricing(Money fee, DiscountPolicy discountPolicy, long revision) {
+            this.fee = fee;
+            this.discountPolicy = discountPolicy;
+            this.revision = revision;
+        }
+
+        Money getFee() {
+            return fee;
+        }
+
+        DiscountPolicy getDiscountPolicy() {
+            return discountPolicy;
+        }
+
+        long getRevision() {
+            return revision;
+        }
     }
 }
@@ -10,6 +10,11 @@ public class PercentDiscountPolicy extends DefaultDiscountPolicy {
 
     @Override
     protected Money getDiscountAmount(Screening screening) {
-        return screening.getMovieFee().times(percent);
+        return getDiscountAmount(screening, screening.getMovieFee());
+    }
+
+    @Override
+    Money getDiscountAmount(Screening screening, Money movieFee) {
+        return movieFee.times(percent);
     }
 }
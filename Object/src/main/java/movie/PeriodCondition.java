@@ -14,10 +14,31 @@ public class PeriodCondition implements DiscountCondition {
         this.endTime = endTime;
     }
 
+    DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    LocalTime getStartTime() {
+        return startTime;
+    }
+
+    LocalTime getEndTime() {
+        return endTime;
+    }
+
     @Override
     public boolean isSatisfiedBy(Screening screening) {
         return screening.getStartTime().getDayOfWeek().equals(dayOfWeek) &&
                 !startTime.isAfter(screening.getStartTime().toLocalTime()) &&
                 !endTime.isBefore(screening.getStartTime().toLocalTime());
     }
+
+    @Override
+    public String toString() {
+        return "PeriodCondition{" +
+                "dayOfWeek=" + dayOfWeek +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                '}';
+    }
 }
@@ -5,11 +5,37 @@ public class Reservation {
     private Screening screening;
     private Money fee;
     private int audienceCount;
+    private SeatHold seats;
 
     public Reservation(Customer customer, Screening screening, Money fee, int audienceCount) {
+        this(customer, screening, fee, audienceCount, null);
+    }
+
+    public Reservation(Customer customer, Screening screening, Money fee, int audienceCount, SeatHold seats) {
         this.customer = customer;
         this.screening = screening;
         this.fee = fee;
         this.audienceCount = audienceCount;
+        this.seats = seats;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public Screening getScreening() {
+        return screening;
+    }
+
+    public Money getFee() {
+        return fee;
+    }
+
+    public int getAudienceCount() {
+        return audienceCount;
+    }
+
+    public SeatHold getSeats() {
+        return seats;
     }
 }
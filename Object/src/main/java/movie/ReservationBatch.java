@@ -0,0 +1,188 @@
+package movie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ReservationBatch {
+    private static final int THRESHOLD = 1_000;
+
+    private final ForkJoinPool pool;
+
+    public ReservationBatch() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ReservationBatch(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public List<Reservation> reserve(List<ReservationRequest> requests) {
+        ReservationRequest[] requestArray = requests.toArray(new ReservationRequest[0]);
+        int[] groupOfRequest = new int[requestArray.length];
+        List<Screening> screenings = new ArrayList<>();
+        List<Movie.Pricing> pricings = new ArrayList<>();
+        List<DiscountPolicy> policies = new ArrayList<>();
+        groupByMovie(requestArray, groupOfRequest, screenings, pricings, policies);
+
+        Money[] movieFees = new Money[screenings.size()];
+        pool.invoke(new PricingTask(screenings.toArray(new Screening[0]), pricings.toArray(new Movie.Pricing[0]),
+                policies.toArray(new DiscountPolicy[0]), movieFees, 0, movieFees.length));
+
+        Reservation[] reservations = new Reservation[requestArray.length];
+        RuntimeException[] failures = new RuntimeException[requestArray.length];
+        pool.invoke(new ReservingTask(requestArray, groupOfRequest, movieFees, reservations, failures,
+                0, requestArray.length));
+        // 한 건이라도 실패하면 일괄 예매 전체를 취소하고, 앞서 확정한 좌석은 모두 돌려준다.
+        RuntimeException failure = firstFailure(failures);
+        if (failure != null) {
+            cancel(reservations);
+            throw failure;
+        }
+        return Arrays.asList(reservations);
+    }
+
+    private static RuntimeException firstFailure(RuntimeException[] failures) {
+        RuntimeException first = null;
+        for (RuntimeException failure : failures) {
+            if (failure == null) {
+                continue;
+            }
+            if (first == null) {
+                first = failure;
+            } else if (first != failure) {
+                first.addSuppressed(failure);
+            }
+        }
+        return first;
+    }
+
+    private static void cancel(Reservation[] reservations) {
+        for (Reservation reservation : reservations) {
+            if (reservation != null) {
+                reservation.getScreening().cancel(reservation);
+            }
+        }
+    }
+
+    // 영화별로 묶은 뒤 상영 단위로 중복을 제거해서 할인 계산은 상영마다 한 번만 수행한다.
+    private static void groupByMovie(ReservationRequest[] requests, int[] groupOfRequest,
+                                     List<Screening> screenings, List<Movie.Pricing> pricings,
+                                     List<DiscountPolicy> policies) {
+        Map<Movie, Map<Screening, List<Integer>>> byMovie = new LinkedHashMap<>();
+        for (int i = 0; i < requests.length; i++) {
+            Screening screening = requests[i].getScreening();
+            byMovie.computeIfAbsent(screening.getMovie(), movie -> new IdentityHashMap<>())
+                    .computeIfAbsent(screening, s -> new ArrayList<>())
+                    .add(i);
+        }
+
+        for (Map.Entry<Movie, Map<Screening, List<Integer>>> byScreening : byMovie.entrySet()) {
+            Movie.Pricing pricing = byScreening.getKey().getPricing();
+            DiscountPolicy policy = CompiledDiscountPolicy.compile(pricing.getDiscountPolicy());
+            for (Map.Entry<Screening, List<Integer>> entry : byScreening.getValue().entrySet()) {
+                for (int request : entry.getValue()) {
+                    groupOfRequest[request] = screenings.size();
+                }
+                screenings.add(entry.getKey());
+                pricings.add(pricing);
+                policies.add(policy);
+            }
+        }
+    }
+
+    private static class PricingTask extends RecursiveAction {
+        private final Screening[] screenings;
+        private final Movie.Pricing[] pricings;
+        private final DiscountPolicy[] policies;
+        private final Money[] movieFees;
+        private final int start;
+        private final int end;
+
+        PricingTask(Screening[] screenings, Movie.Pricing[] pricings, DiscountPolicy[] policies, Money[] movieFees,
+                    int start, int end) {
+            this.screenings = screenings;
+            this.pricings = pricings;
+            this.policies = policies;
+            this.movieFees = movieFees;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            int length = end - start;
+            if (length <= THRESHOLD) {
+                computeSequentially();
+                return;
+            }
+            int middle = start + length / 2;
+            invokeAll(new PricingTask(screenings, pricings, policies, movieFees, start, middle),
+                    new PricingTask(screenings, pricings, policies, movieFees, middle, end));
+        }
+
+        private void computeSequentially() {
+            for (int i = start; i < end; i++) {
+                Screening screening = screenings[i];
+                Movie.Pricing pricing = pricings[i];
+                Money movieFee = pricing.getFee().minus(policies[i].calculateDiscountAmount(screening, pricing.getFee()));
+                // 묶는 도중에 요금이나 정책이 바뀌었다면 영화의 최신 스냅숏으로 계산한다.
+                if (screening.getMovie().getRevision() != pricing.getRevision()) {
+                    movieFee = screening.getMovie().calculateMovieFee(screening);
+                }
+                movieFees[i] = movieFee;
+            }
+        }
+    }
+
+    private static class ReservingTask extends RecursiveAction {
+        private final ReservationRequest[] requests;
+        private final int[] groupOfRequest;
+        private final Money[] movieFees;
+        private final Reservation[] reservations;
+        private final RuntimeException[] failures;
+        private final int start;
+        private final int end;
+
+        ReservingTask(ReservationRequest[] requests, int[] groupOfRequest, Money[] movieFees,
+                      Reservation[] reservations, RuntimeException[] failures, int start, int end) {
+            this.requests = requests;
+            this.groupOfRequest = groupOfRequest;
+            this.movieFees = movieFees;
+            this.reservations = reservations;
+            this.failures = failures;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            int length = end - start;
+            if (length <= THRESHOLD) {
+                computeSequentially();
+                return;
+            }
+            int middle = start + length / 2;
+            invokeAll(new ReservingTask(requests, groupOfRequest, movieFees, reservations, failures, start, middle),
+                    new ReservingTask(requests, groupOfRequest, movieFees, reservations, failures, middle, end));
+        }
+
+        // 예외를 던지면 invokeAll 이 아직 돌고 있는 형제 작업을 기다리지 않으므로, 실패는 기록만 하고 끝까지 진행한다.
+        private void computeSequentially() {
+            for (int i = start; i < end; i++) {
+                ReservationRequest request = requests[i];
+                try {
+                    reservations[i] = request.getScreening().reserve(
+                            request.getCustomer(), request.getAudienceCount(), movieFees[groupOfRequest[i]]);
+                } catch (RuntimeException e) {
+                    failures[i] = e;
+                }
+            }
+        }
+    }
+}
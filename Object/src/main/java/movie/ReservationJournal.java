@@ -0,0 +1,265 @@
+package movie;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+public class ReservationJournal implements Closeable {
+    // 마커(4) + CRC32C(4) + 내용(36) + 여백(4). 레코드가 페이지에 걸쳐 일부만 디스크에 남을 수 있으므로
+    // 마커만 보지 않고 내용의 체크섬까지 맞아야 유효한 레코드로 본다.
+    static final int RECORD_SIZE = 48;
+    private static final int RECORD_MARKER = 0x52535257;
+    private static final int PAYLOAD_OFFSET = 8;
+    private static final int PAYLOAD_SIZE = 36;
+    private static final long CHUNK_SIZE = 64L * 1024 * 1024 / RECORD_SIZE * RECORD_SIZE;
+    private static final Duration DEFAULT_COMMIT_INTERVAL = Duration.ofMillis(2);
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+    private final long commitIntervalNanos;
+    private final Thread committer;
+    private final CRC32C checksum = new CRC32C();
+
+    private long writePosition;
+    private long durablePosition;
+    private boolean closed;
+    private RuntimeException failure;
+
+    public interface RecordVisitor {
+        void visit(int movieId, int sequence, long startEpochSecond, long feeMinorUnits,
+                   int audienceCount, int row, int firstSeat);
+    }
+
+    public interface ScreeningResolver {
+        Screening resolve(int movieId, int sequence, LocalDateTime startTime);
+    }
+
+    public static ReservationJournal open(Path path) throws IOException {
+        return new ReservationJournal(path, DEFAULT_COMMIT_INTERVAL);
+    }
+
+    public ReservationJournal(Path path, Duration commitInterval) throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.commitIntervalNanos = commitInterval.toNanos();
+        this.writePosition = replay(channel, null);
+        // 마지막 유효 레코드 뒤를 잘라 내야 이어 쓴 뒤에 예전 레코드가 다시 살아나지 않는다.
+        if (channel.size() > writePosition) {
+            channel.truncate(writePosition);
+            channel.force(true);
+        }
+        this.durablePosition = writePosition;
+        for (long mapped = 0; mapped <= writePosition; mapped += CHUNK_SIZE) {
+            chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, mapped, CHUNK_SIZE));
+        }
+        this.committer = new Thread(this::commitLoop, "reservation-journal-committer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    public long append(int movieId, Reservation reservation) {
+        Screening screening = reservation.getScreening();
+        SeatHold seats = reservation.getSeats();
+        return append(movieId, screening.getSequence(),
+                screening.getStartTime().toEpochSecond(ZoneOffset.UTC),
+                reservation.getFee().toMinorUnits(RoundingMode.HALF_UP),
+                reservation.getAudienceCount(),
+                seats == null ? -1 : seats.getRow(),
+                seats == null ? -1 : seats.getFirstSeat());
+    }
+
+    // 반환값은 기록이 끝나는 위치이며 awaitDurable 에 넘겨 디스크 반영을 기다릴 수 있다.
+    public synchronized long append(int movieId, int sequence, long startEpochSecond, long feeMinorUnits,
+                                    int audienceCount, int row, int firstSeat) {
+        if (closed) {
+            throw new IllegalStateException("journal is closed");
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        int chunkIndex = (int) (writePosition / CHUNK_SIZE);
+        if (chunkIndex == chunks.size()) {
+            mapChunk(chunkIndex);
+        }
+        MappedByteBuffer chunk = chunks.get(chunkIndex);
+        int offset = (int) (writePosition % CHUNK_SIZE);
+        chunk.putInt(offset + 8, movieId);
+        chunk.putInt(offset + 12, sequence);
+        chunk.putInt(offset + 16, audienceCount);
+        chunk.putLong(offset + 20, startEpochSecond);
+        chunk.putLong(offset + 28, feeMinorUnits);
+        chunk.putInt(offset + 36, row);
+        chunk.putInt(offset + 40, firstSeat);
+        chunk.putInt(offset + 4, checksum(checksum, chunk, offset));
+        chunk.putInt(offset, RECORD_MARKER);
+        writePosition += RECORD_SIZE;
+        if (writePosition - RECORD_SIZE == durablePosition) {
+            notifyAll();
+        }
+        return writePosition;
+    }
+
+    public synchronized void awaitDurable(long position) throws InterruptedException {
+        while (durablePosition < position) {
+            if (failure != null) {
+                throw failure;
+            }
+            wait();
+        }
+    }
+
+    public synchronized long size() {
+        return writePosition / RECORD_SIZE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    // 일정 간격 동안 쌓인 기록을 한 번의 force 로 디스크에 반영한다.
+    private void commitLoop() {
+        while (true) {
+            long from;
+            long to;
+            boolean last;
+            synchronized (this) {
+                while (durablePosition == writePosition && !closed) {
+                    waitQuietly(0);
+                }
+                if (!closed) {
+                    waitQuietly(commitIntervalNanos);
+                }
+                from = durablePosition;
+                to = writePosition;
+                last = closed;
+            }
+
+            try {
+                force(from, to);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    failure = e;
+                    notifyAll();
+                }
+                return;
+            }
+
+            synchronized (this) {
+                durablePosition = to;
+                notifyAll();
+            }
+            if (last) {
+                return;
+            }
+        }
+    }
+
+    private void waitQuietly(long nanos) {
+        try {
+            if (nanos == 0) {
+                wait();
+            } else {
+                TimeUnit.NANOSECONDS.timedWait(this, nanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void force(long from, long to) {
+        while (from < to) {
+            int chunkIndex = (int) (from / CHUNK_SIZE);
+            int offset = (int) (from % CHUNK_SIZE);
+            int length = (int) Math.min(to - from, CHUNK_SIZE - offset);
+            MappedByteBuffer chunk;
+            synchronized (this) {
+                chunk = chunks.get(chunkIndex);
+            }
+            chunk.force(offset, length);
+            from += length;
+        }
+    }
+
+    private void mapChunk(int chunkIndex) {
+        try {
+            chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, chunkIndex * CHUNK_SIZE, CHUNK_SIZE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static long replay(Path path, RecordVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return replay(channel, visitor) / RECORD_SIZE;
+        }
+    }
+
+    public static List<Reservation> replay(Path path, ScreeningResolver screenings) throws IOException {
+        List<Reservation> reservations = new ArrayList<>();
+        replay(path, (movieId, sequence, startEpochSecond, feeMinorUnits, audienceCount, row, firstSeat) -> {
+            Screening screening = screenings.resolve(movieId, sequence,
+                    LocalDateTime.ofEpochSecond(startEpochSecond, 0, ZoneOffset.UTC));
+            Money fee = LongMoney.ofMinorUnits(feeMinorUnits).toMoney();
+            SeatHold seats = null;
+            if (row >= 0 && screening.getSeatMap() != null) {
+                seats = screening.getSeatMap().restore(row, firstSeat, audienceCount);
+            }
+            reservations.add(new Reservation(new Customer(), screening, fee, audienceCount, seats));
+        });
+        return reservations;
+    }
+
+    private static long replay(FileChannel channel, RecordVisitor visitor) throws IOException {
+        long fileSize = channel.size() / RECORD_SIZE * RECORD_SIZE;
+        long position = 0;
+        CRC32C checksum = new CRC32C();
+        while (position < fileSize) {
+            long length = Math.min(CHUNK_SIZE, fileSize - position);
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int offset = 0; offset < length; offset += RECORD_SIZE) {
+                if (chunk.getInt(offset) != RECORD_MARKER || chunk.getInt(offset + 4) != checksum(checksum, chunk, offset)) {
+                    return position + offset;
+                }
+                if (visitor != null) {
+                    visitor.visit(chunk.getInt(offset + 8), chunk.getInt(offset + 12),
+                            chunk.getLong(offset + 20), chunk.getLong(offset + 28), chunk.getInt(offset + 16),
+                            chunk.getInt(offset + 36), chunk.getInt(offset + 40));
+                }
+            }
+            position += length;
+        }
+        return position;
+    }
+
+    private static int checksum(CRC32C checksum, ByteBuffer chunk, int offset) {
+        checksum.reset();
+        checksum.update(chunk.slice(offset + PAYLOAD_OFFSET, PAYLOAD_SIZE));
+        return (int) checksum.getValue();
+    }
+}
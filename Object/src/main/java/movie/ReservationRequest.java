@@ -0,0 +1,25 @@
+package movie;
+
+public class ReservationRequest {
+    private final Screening screening;
+    private final Customer customer;
+    private final int audienceCount;
+
+    public ReservationRequest(Screening screening, Customer customer, int audienceCount) {
+        this.screening = screening;
+        this.customer = customer;
+        this.audienceCount = audienceCount;
+    }
+
+    public Screening getScreening() {
+        return screening;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public int getAudienceCount() {
+        return audienceCount;
+    }
+}
@@ -1,22 +1,35 @@
 package movie;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 public class Screening {
+    private static final Duration IMMEDIATE_HOLD = Duration.ofSeconds(30);
+
     private Movie movie;
     private int sequence;
     private LocalDateTime whenScreened;
+    private SeatMap seatMap;
 
     public Screening(Movie movie, int sequence, LocalDateTime whenScreened) {
+        this(movie, sequence, whenScreened, null);
+    }
+
+    public Screening(Movie movie, int sequence, LocalDateTime whenScreened, SeatMap seatMap) {
         this.movie = movie;
         this.sequence = sequence;
         this.whenScreened = whenScreened;
+        this.seatMap = seatMap;
     }
 
     public LocalDateTime getStartTime() {
         return whenScreened;
     }
 
+    public int getSequence() {
+        return sequence;
+    }
+
     public boolean isSequence(int sequence) {
         return this.sequence == sequence;
     }
@@ -25,11 +38,49 @@ public class Screening {
         return movie.getFee();
     }
 
+    Movie getMovie() {
+        return movie;
+    }
+
+    public SeatMap getSeatMap() {
+        return seatMap;
+    }
+
+    public SeatHold hold(int audienceCount, Duration timeout) {
+        if (seatMap == null) {
+            throw new IllegalStateException("screening has no seat map");
+        }
+        return seatMap.hold(audienceCount, timeout);
+    }
+
+    public Reservation reserve(Customer customer, SeatHold seats) {
+        // 요금 계산이 실패해도 좌석이 확정된 채 남지 않도록 요금을 먼저 계산한다.
+        Money fee = movie.calculateMovieFee(this).times(seats.getCount());
+        if (seatMap == null || !seatMap.confirm(seats)) {
+            throw new IllegalStateException("seat hold is expired or already used: " + seats);
+        }
+        return new Reservation(customer, this, fee, seats.getCount(), seats);
+    }
+
     public Reservation reserve(Customer customer, int audienceCount) {
-        return new Reservation(customer, this, calculateFee(audienceCount), audienceCount);
+        return reserve(customer, audienceCount, movie.calculateMovieFee(this));
+    }
+
+    Reservation reserve(Customer customer, int audienceCount, Money movieFee) {
+        Money fee = movieFee.times(audienceCount);
+        if (seatMap == null) {
+            return new Reservation(customer, this, fee, audienceCount);
+        }
+        SeatHold seats = seatMap.hold(audienceCount, IMMEDIATE_HOLD);
+        if (seats == null || !seatMap.confirm(seats)) {
+            throw new IllegalStateException("no " + audienceCount + " adjacent seats available");
+        }
+        return new Reservation(customer, this, fee, audienceCount, seats);
     }
 
-    private Money calculateFee(int audienceCount) {
-        return movie.calculateMovieFee(this).times(audienceCount);
+    // 확정된 좌석을 좌석 배치도에 돌려준다. 좌석 없이 만든 예매는 돌려줄 것이 없다.
+    boolean cancel(Reservation reservation) {
+        SeatHold seats = reservation.getSeats();
+        return seats != null && seatMap.cancel(seats);
     }
 }
@@ -0,0 +1,211 @@
+package movie;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 상영 정보를 객체 그래프 대신 열 단위 배열로 보관한다. 상영 시각은 분 단위로 잘린다.
+public class ScreeningSchedule {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    // 1970-01-01 은 목요일이다.
+    private static final int EPOCH_DAY_OF_WEEK = 3;
+
+    private static final byte NO_DISCOUNT = 0;
+    private static final byte AMOUNT_DISCOUNT = 1;
+    private static final byte PERCENT_DISCOUNT = 2;
+    private static final byte FALLBACK = 3;
+
+    private final List<Movie> movies = new ArrayList<>();
+    private final Map<Movie, Integer> movieIds = new IdentityHashMap<>();
+
+    private int[] movieIdColumn;
+    private int[] sequenceColumn;
+    private int[] startMinuteColumn;
+    private int size;
+
+    public ScreeningSchedule() {
+        this(16);
+    }
+
+    public ScreeningSchedule(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.movieIdColumn = new int[capacity];
+        this.sequenceColumn = new int[capacity];
+        this.startMinuteColumn = new int[capacity];
+    }
+
+    public static ScreeningSchedule of(List<Screening> screenings) {
+        ScreeningSchedule schedule = new ScreeningSchedule(screenings.size());
+        for (Screening screening : screenings) {
+            schedule.add(screening);
+        }
+        return schedule;
+    }
+
+    public int add(Screening screening) {
+        return add(screening.getMovie(), screening.getSequence(), screening.getStartTime());
+    }
+
+    public int add(Movie movie, int sequence, LocalDateTime startTime) {
+        if (size == movieIdColumn.length) {
+            int capacity = size * 2;
+            movieIdColumn = Arrays.copyOf(movieIdColumn, capacity);
+            sequenceColumn = Arrays.copyOf(sequenceColumn, capacity);
+            startMinuteColumn = Arrays.copyOf(startMinuteColumn, capacity);
+        }
+        movieIdColumn[size] = movieIds.computeIfAbsent(movie, m -> {
+            movies.add(m);
+            return movies.size() - 1;
+        });
+        sequenceColumn[size] = sequence;
+        startMinuteColumn[size] = Math.toIntExact(startTime.toEpochSecond(ZoneOffset.UTC) / 60);
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Screening getScreening(int index) {
+        return new Screening(movies.get(movieIdColumn[index]), sequenceColumn[index], startTimeOf(index));
+    }
+
+    // 요금은 LongMoney 의 최소 단위(전)로 돌려준다.
+    public long[] calculateFees() {
+        MovieTable table = new MovieTable(movies);
+        long[] fees = new long[size];
+        for (int i = 0; i < size; i++) {
+            fees[i] = calculateFee(table, i);
+        }
+        return fees;
+    }
+
+    public long[] calculateFeesParallel() {
+        MovieTable table = new MovieTable(movies);
+        long[] fees = new long[size];
+        Arrays.parallelSetAll(fees, i -> calculateFee(table, i));
+        return fees;
+    }
+
+    public long totalFees(int[] audienceCounts) {
+        MovieTable table = new MovieTable(movies);
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (int i = 0; i < size; i++) {
+            total.addMinorUnits(Math.multiplyExact(calculateFee(table, i), audienceCounts[i]));
+        }
+        return total.getMinorUnits();
+    }
+
+    private long calculateFee(MovieTable table, int index) {
+        int movieId = movieIdColumn[index];
+        long fee = table.baseFees[movieId];
+        byte kind = table.discountKinds[movieId];
+        if (kind == NO_DISCOUNT) {
+            return fee;
+        }
+        if (kind == FALLBACK) {
+            Screening screening = getScreening(index);
+            return LongMoney.from(movies.get(movieId).calculateMovieFee(screening), RoundingMode.HALF_UP)
+                    .getMinorUnits();
+        }
+
+        int startMinute = startMinuteColumn[index];
+        int epochDay = Math.floorDiv(startMinute, MINUTES_PER_DAY);
+        int dayOfWeek = Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, 7);
+        long nanoOfDay = Math.floorMod(startMinute, MINUTES_PER_DAY) * NANOS_PER_MINUTE;
+        if (!table.compiledPolicies[movieId].matches(sequenceColumn[index], dayOfWeek, nanoOfDay)) {
+            return fee;
+        }
+        if (kind == AMOUNT_DISCOUNT) {
+            return fee - table.amountDiscounts[movieId];
+        }
+        // Movie 와 같이 요금 - 요금 * 비율 을 정확히 계산한 뒤 HALF_UP 으로 한 번만 반올림한다.
+        return LongMoney.multiply(fee, table.keepUnscaled[movieId], table.keepScales[movieId], RoundingMode.HALF_UP);
+    }
+
+    private LocalDateTime startTimeOf(int index) {
+        return LocalDateTime.ofEpochSecond(startMinuteColumn[index] * 60L, 0, ZoneOffset.UTC);
+    }
+
+    private static boolean isExact(Money money) {
+        try {
+            money.toMinorUnits(RoundingMode.UNNECESSARY);
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    // 요금과 할인 정책은 바뀔 수 있으므로 계산할 때마다 영화 표를 다시 만든다.
+    private static class MovieTable {
+        private final long[] baseFees;
+        private final byte[] discountKinds;
+        private final long[] amountDiscounts;
+        // 비율 할인 뒤 남는 비율 (1 - percent) 을 unscaled / 10^scale 로 보관한다.
+        private final long[] keepUnscaled;
+        private final int[] keepScales;
+        private final CompiledDiscountPolicy[] compiledPolicies;
+
+        MovieTable(List<Movie> movies) {
+            int movieCount = movies.size();
+            baseFees = new long[movieCount];
+            discountKinds = new byte[movieCount];
+            amountDiscounts = new long[movieCount];
+            keepUnscaled = new long[movieCount];
+            keepScales = new int[movieCount];
+            compiledPolicies = new CompiledDiscountPolicy[movieCount];
+
+            for (int id = 0; id < movieCount; id++) {
+                Movie.Pricing pricing = movies.get(id).getPricing();
+                DiscountPolicy policy = pricing.getDiscountPolicy();
+                baseFees[id] = LongMoney.from(pricing.getFee(), RoundingMode.HALF_UP).getMinorUnits();
+
+                // 전 단위로 떨어지지 않는 요금은 Movie 와 같은 결과를 낼 수 없으므로 객체 경로로 계산한다.
+                if (!isExact(pricing.getFee())) {
+                    discountKinds[id] = FALLBACK;
+                    continue;
+                }
+                if (policy instanceof NoneDiscountPolicy) {
+                    discountKinds[id] = NO_DISCOUNT;
+                    continue;
+                }
+                if (policy.getClass() != AmountDiscountPolicy.class && policy.getClass() != PercentDiscountPolicy.class) {
+                    discountKinds[id] = FALLBACK;
+                    continue;
+                }
+
+                CompiledDiscountPolicy compiled = new CompiledDiscountPolicy((DefaultDiscountPolicy) policy);
+                if (compiled.hasOtherConditions()) {
+                    discountKinds[id] = FALLBACK;
+                    continue;
+                }
+                compiledPolicies[id] = compiled;
+                if (policy.getClass() == AmountDiscountPolicy.class) {
+                    Money discountAmount = ((AmountDiscountPolicy) policy).getDiscountAmount();
+                    if (!isExact(discountAmount)) {
+                        discountKinds[id] = FALLBACK;
+                        continue;
+                    }
+                    discountKinds[id] = AMOUNT_DISCOUNT;
+                    amountDiscounts[id] = LongMoney.from(discountAmount, RoundingMode.UNNECESSARY).getMinorUnits();
+                } else {
+                    BigDecimal keep = BigDecimal.ONE.subtract(BigDecimal.valueOf(((PercentDiscountPolicy) policy).percent));
+                    if (keep.scale() < 0 || keep.scale() > 18 || keep.precision() > 18) {
+                        discountKinds[id] = FALLBACK;
+                        continue;
+                    }
+                    discountKinds[id] = PERCENT_DISCOUNT;
+                    keepUnscaled[id] = keep.unscaledValue().longValue();
+                    keepScales[id] = keep.scale();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package movie;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SeatHold {
+    static final int HELD = 0;
+    static final int CONFIRMED = 1;
+    static final int RELEASED = 2;
+
+    private final SeatMap seatMap;
+    private final long id;
+    private final int row;
+    private final int firstSeat;
+    private final int count;
+    private final long expiresAtNanos;
+    private final AtomicInteger state = new AtomicInteger(HELD);
+
+    SeatHold(SeatMap seatMap, long id, int row, int firstSeat, int count, long expiresAtNanos) {
+        this.seatMap = seatMap;
+        this.id = id;
+        this.row = row;
+        this.firstSeat = firstSeat;
+        this.count = count;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getFirstSeat() {
+        return firstSeat;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isConfirmed() {
+        return state.get() == CONFIRMED;
+    }
+
+    public boolean isReleased() {
+        return state.get() == RELEASED;
+    }
+
+    SeatMap getSeatMap() {
+        return seatMap;
+    }
+
+    boolean isExpired(long nowNanos) {
+        return state.get() == HELD && nowNanos - expiresAtNanos > 0;
+    }
+
+    boolean transition(int from, int to) {
+        return state.compareAndSet(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHold{" +
+                "row=" + row +
+                ", firstSeat=" + firstSeat +
+                ", count=" + count +
+                '}';
+    }
+}
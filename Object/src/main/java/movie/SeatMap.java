@@ -0,0 +1,223 @@
+package movie;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class SeatMap {
+    private final int rows;
+    private final int seatsPerRow;
+    private final int wordsPerRow;
+    // 비트가 1 이면 홀드 중이거나 예매된 좌석이다.
+    private final AtomicLongArray seats;
+    private final Map<Long, SeatHold> holds = new ConcurrentHashMap<>();
+    private final AtomicLong holdIds = new AtomicLong();
+
+    public SeatMap(int rows, int seatsPerRow) {
+        if (rows <= 0 || seatsPerRow <= 0) {
+            throw new IllegalArgumentException("rows and seatsPerRow must be positive");
+        }
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+        this.wordsPerRow = (seatsPerRow + 63) >>> 6;
+        this.seats = new AtomicLongArray(rows * wordsPerRow);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public SeatHold hold(int count, Duration timeout) {
+        if (count <= 0 || count > seatsPerRow) {
+            throw new IllegalArgumentException("count must be between 1 and " + seatsPerRow);
+        }
+        SeatHold hold = tryHold(count, timeout);
+        if (hold == null && releaseExpired() > 0) {
+            hold = tryHold(count, timeout);
+        }
+        return hold;
+    }
+
+    public SeatHold hold(int row, int firstSeat, int count, Duration timeout) {
+        if (row < 0 || row >= rows || firstSeat < 0 || count <= 0 || firstSeat + count > seatsPerRow) {
+            throw new IllegalArgumentException("seats out of range");
+        }
+        if (!claim(row, firstSeat, count)) {
+            return null;
+        }
+        return register(row, firstSeat, count, timeout);
+    }
+
+    SeatHold restore(int row, int firstSeat, int count) {
+        SeatHold hold = hold(row, firstSeat, count, Duration.ZERO);
+        if (hold == null || !hold.transition(SeatHold.HELD, SeatHold.CONFIRMED)) {
+            throw new IllegalStateException("seats are already taken: row " + row + ", seat " + firstSeat);
+        }
+        holds.remove(hold.getId());
+        return hold;
+    }
+
+    public boolean confirm(SeatHold hold) {
+        checkOwner(hold);
+        if (hold.isExpired(System.nanoTime())) {
+            release(hold);
+            return false;
+        }
+        if (hold.transition(SeatHold.HELD, SeatHold.CONFIRMED)) {
+            holds.remove(hold.getId());
+            return true;
+        }
+        return false;
+    }
+
+    public boolean release(SeatHold hold) {
+        checkOwner(hold);
+        if (hold.transition(SeatHold.HELD, SeatHold.RELEASED)) {
+            holds.remove(hold.getId());
+            unclaim(hold.getRow(), hold.getFirstSeat(), hold.getFirstSeat() + hold.getCount());
+            return true;
+        }
+        return false;
+    }
+
+    // 이미 확정된 좌석을 되돌린다. 일괄 예매가 실패했을 때 앞서 확정한 좌석을 돌려주는 데 쓴다.
+    boolean cancel(SeatHold hold) {
+        checkOwner(hold);
+        if (hold.transition(SeatHold.CONFIRMED, SeatHold.RELEASED)) {
+            unclaim(hold.getRow(), hold.getFirstSeat(), hold.getFirstSeat() + hold.getCount());
+            return true;
+        }
+        return false;
+    }
+
+    public int releaseExpired() {
+        long now = System.nanoTime();
+        int released = 0;
+        for (SeatHold hold : holds.values()) {
+            if (hold.isExpired(now) && release(hold)) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    public boolean isTaken(int row, int seat) {
+        return (seats.get(row * wordsPerRow + (seat >>> 6)) & (1L << seat)) != 0;
+    }
+
+    public int availableSeats() {
+        int taken = 0;
+        for (int i = 0; i < seats.length(); i++) {
+            taken += Long.bitCount(seats.get(i));
+        }
+        return rows * seatsPerRow - taken;
+    }
+
+    private void checkOwner(SeatHold hold) {
+        if (hold.getSeatMap() != this) {
+            throw new IllegalArgumentException("seat hold belongs to another seat map");
+        }
+    }
+
+    private SeatHold tryHold(int count, Duration timeout) {
+        for (int row = 0; row < rows; row++) {
+            int from = 0;
+            while (from + count <= seatsPerRow) {
+                int free = nextFree(row, from);
+                if (free < 0 || free + count > seatsPerRow) {
+                    break;
+                }
+                int taken = nextTaken(row, free, free + count);
+                if (taken < 0) {
+                    if (claim(row, free, count)) {
+                        return register(row, free, count, timeout);
+                    }
+                    // 다른 스레드가 먼저 가져갔다면 같은 위치부터 다시 찾는다.
+                    continue;
+                }
+                from = taken + 1;
+            }
+        }
+        return null;
+    }
+
+    private SeatHold register(int row, int firstSeat, int count, Duration timeout) {
+        SeatHold hold = new SeatHold(this, holdIds.incrementAndGet(), row, firstSeat, count,
+                System.nanoTime() + timeout.toNanos());
+        holds.put(hold.getId(), hold);
+        return hold;
+    }
+
+    private int nextFree(int row, int from) {
+        int base = row * wordsPerRow;
+        for (int word = from >>> 6; word < wordsPerRow; word++) {
+            long free = ~seats.get(base + word);
+            if (word == from >>> 6) {
+                free &= -1L << from;
+            }
+            if (free != 0) {
+                int seat = (word << 6) + Long.numberOfTrailingZeros(free);
+                return seat < seatsPerRow ? seat : -1;
+            }
+        }
+        return -1;
+    }
+
+    private int nextTaken(int row, int from, int to) {
+        int base = row * wordsPerRow;
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            long taken = seats.get(base + word) & mask(word, from, to);
+            if (taken != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(taken);
+            }
+        }
+        return -1;
+    }
+
+    // 워드 단위로 CAS 하고, 중간에 실패하면 앞서 잡은 워드를 되돌린다.
+    private boolean claim(int row, int from, int count) {
+        int to = from + count;
+        int base = row * wordsPerRow;
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            long mask = mask(word, from, to);
+            long current;
+            do {
+                current = seats.get(base + word);
+                if ((current & mask) != 0) {
+                    if (word > from >>> 6) {
+                        unclaim(row, from, word << 6);
+                    }
+                    return false;
+                }
+            } while (!seats.compareAndSet(base + word, current, current | mask));
+        }
+        return true;
+    }
+
+    private void unclaim(int row, int from, int to) {
+        int base = row * wordsPerRow;
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            long mask = mask(word, from, to);
+            long current;
+            do {
+                current = seats.get(base + word);
+            } while (!seats.compareAndSet(base + word, current, current & ~mask));
+        }
+    }
+
+    private static long mask(int word, int from, int to) {
+        int low = Math.max(from, word << 6) & 63;
+        int high = Math.min(to, (word + 1) << 6);
+        long mask = -1L << low;
+        if (high < (word + 1) << 6) {
+            mask &= (1L << (high & 63)) - 1;
+        }
+        return mask;
+    }
+}
@@ -7,8 +7,19 @@ public class SequenceCondition implements DiscountCondition {
         this.sequence = sequence;
     }
 
+    int getSequence() {
+        return sequence;
+    }
+
     @Override
     public boolean isSatisfiedBy(Screening screening) {
         return screening.isSequence(sequence);
     }
+
+    @Override
+    public String toString() {
+        return "SequenceCondition{" +
+                "sequence=" + sequence +
+                '}';
+    }
 }
@@ -0,0 +1,70 @@
+package ticket;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdmissionReport {
+    private final int audienceCount;
+    private final int admittedCount;
+    private final long elapsedNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final long amount;
+
+    public AdmissionReport(int audienceCount, int admittedCount, long elapsedNanos,
+                           long p50Nanos, long p99Nanos, long maxNanos, long amount) {
+        this.audienceCount = audienceCount;
+        this.admittedCount = admittedCount;
+        this.elapsedNanos = elapsedNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.amount = amount;
+    }
+
+    public int getAudienceCount() {
+        return audienceCount;
+    }
+
+    public int getAdmittedCount() {
+        return admittedCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public double getThroughputPerSecond() {
+        return audienceCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "AdmissionReport{" +
+                "audienceCount=" + audienceCount +
+                ", admittedCount=" + admittedCount +
+                ", elapsedMillis=" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) +
+                ", throughputPerSecond=" + String.format("%.1f", getThroughputPerSecond()) +
+                ", p50Micros=" + TimeUnit.NANOSECONDS.toMicros(p50Nanos) +
+                ", p99Micros=" + TimeUnit.NANOSECONDS.toMicros(p99Nanos) +
+                ", maxMicros=" + TimeUnit.NANOSECONDS.toMicros(maxNanos) +
+                ", amount=" + amount +
+                '}';
+    }
+}
@@ -0,0 +1,138 @@
+package ticket;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+public class AdmissionSimulator {
+    private static final long FEE = 10_000L;
+    private static final int MAX_PLATFORM_THREADS = 256;
+
+    private final int audienceCount;
+    private final int sellerCount;
+    private final int ticketCount;
+    private final double arrivalsPerSecond;
+    private final Supplier<ExecutorService> executorFactory;
+
+    public AdmissionSimulator(int audienceCount, int sellerCount, int ticketCount, double arrivalsPerSecond) {
+        this(audienceCount, sellerCount, ticketCount, arrivalsPerSecond, AdmissionSimulator::newThreadPerTaskExecutor);
+    }
+
+    public AdmissionSimulator(int audienceCount, int sellerCount, int ticketCount, double arrivalsPerSecond,
+                              Supplier<ExecutorService> executorFactory) {
+        if (audienceCount <= 0 || sellerCount <= 0 || ticketCount < 0 || arrivalsPerSecond < 0) {
+            throw new IllegalArgumentException("invalid simulation parameters");
+        }
+        this.audienceCount = audienceCount;
+        this.sellerCount = sellerCount;
+        this.ticketCount = ticketCount;
+        this.arrivalsPerSecond = arrivalsPerSecond;
+        this.executorFactory = executorFactory;
+    }
+
+    public AdmissionReport run() throws InterruptedException {
+        Ticket[] tickets = new Ticket[ticketCount];
+        for (int i = 0; i < ticketCount; i++) {
+            tickets[i] = new Ticket(FEE);
+        }
+        TicketOffice ticketOffice = new TicketOffice(0L, tickets);
+        Theater[] theaters = new Theater[sellerCount];
+        for (int i = 0; i < sellerCount; i++) {
+            theaters[i] = new Theater(new TicketSeller(ticketOffice));
+        }
+
+        long[] latencies = new long[audienceCount];
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(audienceCount);
+        // 0 이면 모든 관객이 동시에 도착한다.
+        long intervalNanos = arrivalsPerSecond == 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / arrivalsPerSecond);
+
+        ExecutorService executor = executorFactory.get();
+        RejectedExecutionException rejected = null;
+        long startedAt = System.nanoTime();
+        try {
+            for (int i = 0; i < audienceCount; i++) {
+                long arrival = startedAt + i * intervalNanos;
+                waitUntil(arrival);
+
+                int index = i;
+                Theater theater = theaters[i % sellerCount];
+                try {
+                    executor.execute(() -> {
+                        try {
+                            if (theater.enter(new Audience(new Bag(FEE)))) {
+                                admitted.incrementAndGet();
+                            }
+                        } finally {
+                            latencies[index] = System.nanoTime() - arrival;
+                            done.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // 거절된 관객과 아직 도착하지 않은 관객 몫을 내려 이미 맡긴 작업만 기다린다.
+                    rejected = e;
+                    for (int j = i; j < audienceCount; j++) {
+                        done.countDown();
+                    }
+                    break;
+                }
+            }
+            executor.shutdown();
+            // 거절 정책이 작업을 조용히 버리면 latch 가 0 이 되지 않으므로 풀이 끝났는지도 함께 본다.
+            while (!done.await(100, TimeUnit.MILLISECONDS)) {
+                if (executor.isTerminated() && done.getCount() > 0) {
+                    throw new IllegalStateException(done.getCount() + " arrivals were dropped by the executor");
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (rejected != null) {
+            throw new IllegalStateException("executor rejected an arrival", rejected);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        return new AdmissionReport(audienceCount, admitted.get(), elapsedNanos,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1],
+                ticketOffice.getAmount());
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    // JDK 21 이상에서 실행되면 가상 스레드를, 그렇지 않으면 크기가 정해진 플랫폼 스레드 풀을 사용한다.
+    // 캐시 풀은 몰려온 관객마다 스레드를 하나씩 만들기 때문에 쓰지 않는다.
+    static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(MAX_PLATFORM_THREADS);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int audienceCount = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int sellerCount = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int ticketCount = args.length > 2 ? Integer.parseInt(args[2]) : audienceCount;
+        double arrivalsPerSecond = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+
+        AdmissionReport report = new AdmissionSimulator(audienceCount, sellerCount, ticketCount, arrivalsPerSecond).run();
+        System.out.println(report);
+    }
+}
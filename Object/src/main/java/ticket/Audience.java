@@ -1,20 +1,26 @@
 package ticket;
 
 public class Audience {
+    // 잔액이 모자라 사지 못했을 때 buy 가 돌려주는 값
+    public static final long NOT_PAID = -1L;
+
     private Bag bag;
 
     public Audience(Bag bag) {
         this.bag = bag;
     }
 
-    public Long buy(Ticket ticket) {
+    public long buy(Ticket ticket) {
         if (bag.hasInvitation()) {
             bag.setTicket(ticket);
             return 0L;
         }
 
+        // 잔액 확인과 차감을 한 번의 CAS 로 해서 동시에 사도 잔액이 음수가 되지 않는다.
+        if (!bag.debit(ticket.getFee())) {
+            return NOT_PAID;
+        }
         bag.setTicket(ticket);
-        bag.minusAmount(ticket.getFee());
         return ticket.getFee();
     }
 }
@@ -1,16 +1,18 @@
 package ticket;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class Bag {
-    private Long amount;
+    private final AtomicLong amount;
     private Invitation invitation;
     private Ticket ticket;
 
-    public Bag(Long amount) {
+    public Bag(long amount) {
         this(null, amount);
     }
 
-    public Bag(Invitation invitation, Long amount) {
-        this.amount = amount;
+    public Bag(Invitation invitation, long amount) {
+        this.amount = new AtomicLong(amount);
         this.invitation = invitation;
     }
 
@@ -22,15 +24,35 @@ public class Bag {
         return ticket != null;
     }
 
+    Ticket getTicket() {
+        return ticket;
+    }
+
     public void setTicket(Ticket ticket) {
         this.ticket = ticket;
     }
 
-    public void minusAmount(Long amount) {
-        this.amount -= amount;
+    public long getAmount() {
+        return amount.get();
+    }
+
+    public void minusAmount(long amount) {
+        this.amount.addAndGet(-amount);
+    }
+
+    public void plusAmount(long amount) {
+        this.amount.addAndGet(amount);
     }
 
-    public void plusAmount(Long amount) {
-        this.amount += amount;
+    // 잔액이 부족하면 차감하지 않고 false 를 반환한다.
+    public boolean debit(long amount) {
+        long current;
+        do {
+            current = this.amount.get();
+            if (current < amount) {
+                return false;
+            }
+        } while (!this.amount.compareAndSet(current, current - amount));
+        return true;
     }
 }
@@ -0,0 +1,62 @@
+package ticket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Client {
+    private static final long FEE = 10_000L;
+
+    public static void main(String[] args) throws InterruptedException {
+        int sellerCount = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int ticketCount = 100_000;
+        int audienceCount = 150_000;
+
+        Ticket[] tickets = new Ticket[ticketCount];
+        for (int i = 0; i < ticketCount; i++) {
+            tickets[i] = new Ticket(FEE);
+        }
+        TicketOffice ticketOffice = new TicketOffice(0L, tickets);
+
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> sellers = new ArrayList<>();
+        for (int i = 0; i < sellerCount; i++) {
+            Theater theater = new Theater(new TicketSeller(ticketOffice));
+            Thread seller = new Thread(() -> {
+                awaitQuietly(start);
+                while (next.getAndIncrement() < audienceCount) {
+                    if (theater.enter(new Audience(new Bag(FEE)))) {
+                        sold.incrementAndGet();
+                    }
+                }
+            });
+            seller.start();
+            sellers.add(seller);
+        }
+
+        start.countDown();
+        for (Thread seller : sellers) {
+            seller.join();
+        }
+
+        // 모든 티켓이 정확히 한 번씩만 팔렸다면 판매 수와 판매 금액이 티켓 수와 일치한다.
+        System.out.println("sellers = " + sellerCount);
+        System.out.println("sold = " + sold.get() + " / " + ticketCount);
+        System.out.println("soldOut = " + ticketOffice.isSoldOut());
+        System.out.println("amount = " + ticketOffice.getAmount() + " / " + ticketCount * FEE);
+        if (sold.get() != ticketCount || ticketOffice.getAmount() != ticketCount * FEE || !ticketOffice.isSoldOut()) {
+            throw new IllegalStateException("ticket office is inconsistent");
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
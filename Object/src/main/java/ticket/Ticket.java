@@ -1,9 +1,13 @@
 package ticket;
 
 public class Ticket {
-    private Long fee;
+    private final long fee;
 
-    public Long getFee() {
+    public Ticket(long fee) {
+        this.fee = fee;
+    }
+
+    public long getFee() {
         return fee;
     }
 }
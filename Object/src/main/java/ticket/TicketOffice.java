@@ -1,27 +1,41 @@
 package ticket;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 public class TicketOffice {
-    private Long amount;
-    private List<Ticket> tickets = new ArrayList<>();
+    private final LongAdder amount = new LongAdder();
+    private final Queue<Ticket> tickets = new ConcurrentLinkedQueue<>();
 
-    public TicketOffice(Long amount, Ticket ...tickets) {
-        this.amount = amount;
+    public TicketOffice(long amount, Ticket ...tickets) {
+        this.amount.add(amount);
         this.tickets.addAll(Arrays.asList(tickets));
     }
 
+    // 큐에서 꺼낸 티켓은 한 판매원에게만 전달된다. 매진이면 null 을 반환한다.
     public Ticket getTicket() {
-        return tickets.get(0);
+        return tickets.poll();
     }
 
-    public void minusAmount(Long amount) {
-        this.amount -= amount;
+    public void addTickets(Ticket ...tickets) {
+        this.tickets.addAll(Arrays.asList(tickets));
+    }
+
+    public void minusAmount(long amount) {
+        this.amount.add(-amount);
+    }
+
+    public void plusAmount(long amount) {
+        this.amount.add(amount);
+    }
+
+    public long getAmount() {
+        return amount.sum();
     }
 
-    public void plusAmount(Long amount) {
-        this.amount += amount;
+    public boolean isSoldOut() {
+        return tickets.isEmpty();
     }
 }
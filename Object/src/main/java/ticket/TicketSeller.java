@@ -7,7 +7,17 @@ public class TicketSeller {
         this.ticketOffice = ticketOffice;
     }
 
-    public void sellTo(Audience audience) {
-        ticketOffice.plusAmount(audience.buy(ticketOffice.getTicket()));
+    public boolean sellTo(Audience audience) {
+        Ticket ticket = ticketOffice.getTicket();
+        if (ticket == null) {
+            return false;
+        }
+        long paid = audience.buy(ticket);
+        if (paid == Audience.NOT_PAID) {
+            ticketOffice.addTickets(ticket);
+            return false;
+        }
+        ticketOffice.plusAmount(paid);
+        return true;
     }
 }
@@ -0,0 +1,31 @@
+package movie;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledDiscountPolicyTest {
+    @Test
+    void compilesPoliciesThatEvaluateConditions() {
+        DiscountPolicy policy = new AmountDiscountPolicy(Money.wons(800), new SequenceCondition(1),
+                new PeriodCondition(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 59)));
+
+        assertTrue(CompiledDiscountPolicy.compile(policy) instanceof CompiledDiscountPolicy);
+    }
+
+    @Test
+    void leavesOverriddenCalculationAlone() {
+        DiscountPolicy policy = new AmountDiscountPolicy(Money.wons(800), new SequenceCondition(1)) {
+            @Override
+            public Money calculateDiscountAmount(Screening screening) {
+                return Money.ZERO;
+            }
+        };
+
+        assertSame(policy, CompiledDiscountPolicy.compile(policy));
+    }
+}
@@ -0,0 +1,37 @@
+package movie;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DynamicPricingTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 4, 19, 0);
+
+    @Test
+    void seatsReservedOutsideDynamicPricingRaiseTheTier() {
+        Movie movie = new Movie("아바타", Duration.ofMinutes(120), Money.wons(10000), new NoneDiscountPolicy());
+        Screening screening = new Screening(movie, 1, START, new SeatMap(10, 10));
+        Clock beforeStart = Clock.fixed(START.minusDays(1).atZone(ZONE).toInstant(), ZONE);
+        DynamicPricing pricing = new DynamicPricing(100, new double[]{0.5, 0.8}, new double[]{1.0, 1.1, 1.2},
+                Duration.ZERO, beforeStart);
+
+        assertEquals(1.0, pricing.multiplierOf(screening), 0);
+        for (int i = 0; i < 6; i++) {
+            screening.reserve(new Customer(), 10);
+        }
+        pricing.calculateMovieFee(screening);
+
+        assertEquals(60, pricing.reservedSeats(screening));
+        assertEquals(1.1, pricing.multiplierOf(screening), 0);
+
+        pricing.cancel(pricing.reserve(screening, new Customer(), 10));
+        pricing.calculateMovieFee(screening);
+        assertEquals(60, pricing.reservedSeats(screening));
+    }
+}
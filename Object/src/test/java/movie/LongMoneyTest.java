@@ -0,0 +1,84 @@
+package movie;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// LongMoney 의 정수 곱이 BigDecimal 로 계산해 반올림한 값과 항상 같은지 확인한다.
+class LongMoneyTest {
+    private static final long SEED = 20240607L;
+    private static final double[] FACTORS = {0.07, 0.1, 0.035, 0.15, 0.333, 1.1, -0.07, 0.0001, 12.5};
+
+    @Test
+    void multiplyMatchesBigDecimalAroundZero() {
+        for (RoundingMode mode : roundingModes()) {
+            for (double factor : FACTORS) {
+                DecimalFactor decimalFactor = DecimalFactor.of(factor);
+                for (long minorUnits = -20_000; minorUnits <= 20_000; minorUnits++) {
+                    assertMatches(minorUnits, factor, decimalFactor, mode);
+                }
+            }
+        }
+    }
+
+    @Test
+    void multiplyMatchesBigDecimalForRandomInputs() {
+        Random random = new Random(SEED);
+        for (RoundingMode mode : roundingModes()) {
+            for (int i = 0; i < 50_000; i++) {
+                long minorUnits = random.nextLong() >> random.nextInt(64);
+                double factor = random.nextBoolean()
+                        ? random.nextInt(10_000) / Math.pow(10, random.nextInt(6))
+                        : random.nextDouble();
+                assertMatches(minorUnits, factor, DecimalFactor.of(factor), mode);
+            }
+        }
+    }
+
+    @Test
+    void accumulatorMatchesLongMoney() {
+        Random random = new Random(SEED);
+        DecimalFactor factor = DecimalFactor.of(0.1);
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        LongMoney total = LongMoney.ZERO;
+        for (int i = 0; i < 10_000; i++) {
+            LongMoney fee = LongMoney.ofMinorUnits(random.nextInt(10_000_000));
+            accumulator.addTimes(fee, factor, RoundingMode.HALF_UP);
+            total = total.plus(fee.times(0.1, RoundingMode.HALF_UP));
+        }
+        assertEquals(total, accumulator.toLongMoney());
+    }
+
+    @Test
+    void rejectsNonFiniteFactor() {
+        assertThrows(ArithmeticException.class, () -> DecimalFactor.of(Double.NaN));
+        assertThrows(ArithmeticException.class, () -> DecimalFactor.of(Double.POSITIVE_INFINITY));
+    }
+
+    private static RoundingMode[] roundingModes() {
+        return new RoundingMode[]{
+                RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+        };
+    }
+
+    private static void assertMatches(long minorUnits, double factor, DecimalFactor decimalFactor, RoundingMode mode) {
+        BigDecimal exact = BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(factor)).setScale(0, mode);
+        Long expected = exact.unscaledValue().bitLength() < 64 ? exact.longValue() : null;
+        assertEquals(expected, multiplyOrNull(minorUnits, decimalFactor, mode),
+                () -> minorUnits + " * " + factor + " " + mode);
+    }
+
+    private static Long multiplyOrNull(long minorUnits, DecimalFactor factor, RoundingMode mode) {
+        try {
+            return factor.applyTo(minorUnits, mode);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package movie;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 요금과 할인 정책을 계속 바꾸는 동안에도 계산된 요금은 항상 한 스냅숏의 요금과 정책으로만 나와야 한다.
+class MovieTest {
+    private static final int READER_COUNT = 4;
+    private static final int CALCULATIONS_PER_READER = 100_000;
+
+    private static Screening screening(Movie movie) {
+        return new Screening(movie, 1, LocalDateTime.of(2024, 3, 4, 10, 0));
+    }
+
+    @Test
+    void feeComesFromASingleSnapshotWhilePricingChanges() throws InterruptedException {
+        Money regularFee = Money.wons(10000);
+        DiscountPolicy regularPolicy = new PercentDiscountPolicy(0.1, new SequenceCondition(1));
+        Money premiumFee = Money.wons(20000);
+        DiscountPolicy premiumPolicy = CompositeDiscountPolicy.maxOf(
+                new PercentDiscountPolicy(0.25, new SequenceCondition(1)));
+        Movie movie = new Movie("아바타", Duration.ofMinutes(120), regularFee, regularPolicy);
+        Screening screening = screening(movie);
+        Set<LongMoney> expected = Set.of(LongMoney.wons(9000), LongMoney.wons(15000));
+
+        List<LongMoney> unexpected = Collections.synchronizedList(new ArrayList<>());
+        runWhileSwapping(movie, regularFee, regularPolicy, premiumFee, premiumPolicy, () -> {
+            LongMoney fee = LongMoney.from(movie.calculateMovieFee(screening), RoundingMode.UNNECESSARY);
+            if (!expected.contains(fee)) {
+                unexpected.add(fee);
+            }
+        });
+
+        assertTrue(unexpected.isEmpty(), () -> "mixed snapshots: " + unexpected);
+    }
+
+    @Test
+    void discountIsCalculatedOncePerFee() throws InterruptedException {
+        LongAdder calculations = new LongAdder();
+        DiscountPolicy counting = new PercentDiscountPolicy(0.1, new SequenceCondition(1)) {
+            @Override
+            Money getDiscountAmount(Screening screening, Money movieFee) {
+                calculations.increment();
+                return super.getDiscountAmount(screening, movieFee);
+            }
+        };
+        Movie movie = new Movie("타이타닉", Duration.ofMinutes(180), Money.wons(10000), counting);
+        Screening screening = screening(movie);
+
+        runWhileSwapping(movie, Money.wons(10000), counting, Money.wons(20000), counting,
+                () -> movie.calculateMovieFee(screening));
+
+        assertEquals((long) READER_COUNT * CALCULATIONS_PER_READER, calculations.sum());
+    }
+
+    private static void runWhileSwapping(Movie movie, Money fee1, DiscountPolicy policy1,
+                                         Money fee2, DiscountPolicy policy2, Runnable calculation)
+            throws InterruptedException {
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            boolean first = false;
+            while (!done.get()) {
+                movie.changePricing(first ? fee1 : fee2, first ? policy1 : policy2);
+                first = !first;
+            }
+        });
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < CALCULATIONS_PER_READER; j++) {
+                    calculation.run();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        writer.start();
+        start.countDown();
+        try {
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package movie;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReservationBatchTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 4, 10, 0);
+
+    @Test
+    void failedRequestReleasesSeatsConfirmedByTheRestOfTheBatch() {
+        Movie movie = new Movie("아바타", Duration.ofMinutes(120), Money.wons(10000), new NoneDiscountPolicy());
+        Screening full = new Screening(movie, 1, START, new SeatMap(1, 10));
+        Screening roomy = new Screening(movie, 2, START, new SeatMap(20, 100));
+
+        // THRESHOLD 보다 많이 넣어 여러 작업으로 나뉘게 하고, 마지막 요청만 좌석이 모자라게 한다.
+        List<ReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 1_500; i++) {
+            requests.add(new ReservationRequest(roomy, new Customer(), 1));
+        }
+        for (int i = 0; i < 6; i++) {
+            requests.add(new ReservationRequest(full, new Customer(), 2));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThrows(IllegalStateException.class, () -> new ReservationBatch(pool).reserve(requests));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(10, full.getSeatMap().availableSeats());
+        assertEquals(2_000, roomy.getSeatMap().availableSeats());
+    }
+
+    @Test
+    void successfulBatchKeepsSeats() {
+        Movie movie = new Movie("아바타", Duration.ofMinutes(120), Money.wons(10000), new NoneDiscountPolicy());
+        Screening screening = new Screening(movie, 1, START, new SeatMap(2, 10));
+        List<ReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(new ReservationRequest(screening, new Customer(), 5));
+        }
+
+        List<Reservation> reservations = new ReservationBatch(new ForkJoinPool(1)).reserve(requests);
+
+        assertEquals(4, reservations.size());
+        assertEquals(0, screening.getSeatMap().availableSeats());
+        assertEquals(LongMoney.wons(50000), LongMoney.from(reservations.get(0).getFee(), RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    void failedFeeCalculationLeavesTheHoldUnconfirmed() {
+        DiscountPolicy failing = screening -> {
+            throw new IllegalStateException("pricing unavailable");
+        };
+        Movie movie = new Movie("타이타닉", Duration.ofMinutes(180), Money.wons(11000), failing);
+        Screening screening = new Screening(movie, 1, START, new SeatMap(1, 10));
+        SeatHold hold = screening.hold(3, Duration.ofMinutes(5));
+
+        assertThrows(IllegalStateException.class, () -> screening.reserve(new Customer(), hold));
+
+        assertFalse(hold.isConfirmed());
+        assertTrue(screening.getSeatMap().release(hold));
+        assertEquals(10, screening.getSeatMap().availableSeats());
+    }
+}
@@ -0,0 +1,68 @@
+package movie;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 무작위 영화와 상영으로 ScreeningSchedule 의 요금이 Movie.calculateMovieFee 와 전 단위까지 같은지 확인한다.
+class ScreeningScheduleTest {
+    private static final long SEED = 20240304L;
+    private static final double[] PERCENTS = {0.035, 0.07, 0.1, 0.125, 0.15, 0.333, 0.5};
+
+    @Test
+    void feesMatchMovieCalculation() {
+        Random random = new Random(SEED);
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            movies.add(randomMovie(random, i));
+        }
+
+        List<Screening> screenings = new ArrayList<>();
+        LocalDateTime monday = LocalDateTime.of(2024, 3, 4, 0, 0);
+        for (int i = 0; i < 50_000; i++) {
+            screenings.add(new Screening(movies.get(random.nextInt(movies.size())), random.nextInt(12),
+                    monday.plusMinutes(random.nextInt(7 * 24 * 60))));
+        }
+
+        ScreeningSchedule schedule = ScreeningSchedule.of(screenings);
+        long[] fees = schedule.calculateFees();
+        assertArrayEquals(fees, schedule.calculateFeesParallel());
+        for (int i = 0; i < screenings.size(); i++) {
+            Screening screening = screenings.get(i);
+            long expected = LongMoney.from(screening.getMovie().calculateMovieFee(screening), RoundingMode.HALF_UP)
+                    .getMinorUnits();
+            assertEquals(expected, fees[i], screening.getMovie().getTitle());
+        }
+    }
+
+    private static Movie randomMovie(Random random, int index) {
+        Money fee = Money.wons((random.nextInt(5_000_000) + 1) / 100.0);
+        DiscountCondition[] conditions = {
+                new SequenceCondition(random.nextInt(10)),
+                new PeriodCondition(DayOfWeek.of(random.nextInt(7) + 1),
+                        LocalTime.of(random.nextInt(12), 0), LocalTime.of(12 + random.nextInt(12), 0))
+        };
+        DiscountPolicy policy;
+        switch (random.nextInt(3)) {
+            case 0:
+                policy = new AmountDiscountPolicy(Money.wons(random.nextInt(1_000)), conditions);
+                break;
+            case 1:
+                policy = new PercentDiscountPolicy(PERCENTS[random.nextInt(PERCENTS.length)], conditions);
+                break;
+            default:
+                policy = new NoneDiscountPolicy();
+        }
+        return new Movie("movie" + index, Duration.ofMinutes(120), fee, policy);
+    }
+}
@@ -0,0 +1,100 @@
+package ticket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 여러 판매원이 동시에 팔아도 티켓은 한 번씩만 나가고, 관객이 낸 돈과 매표소 금액이 맞아야 한다.
+class TicketOfficeTest {
+    private static final long SEED = 20240101L;
+    private static final long FEE = 10_000L;
+    private static final int SELLER_COUNT = 8;
+    private static final int TICKET_COUNT = 20_000;
+    private static final int AUDIENCE_COUNT = 30_000;
+
+    @Test
+    void eachTicketIsSoldExactlyOnceAndBalancesAddUp() throws InterruptedException {
+        Ticket[] tickets = new Ticket[TICKET_COUNT];
+        for (int i = 0; i < TICKET_COUNT; i++) {
+            tickets[i] = new Ticket(FEE);
+        }
+        TicketOffice ticketOffice = new TicketOffice(0L, tickets);
+
+        // 초대장을 가진 관객, 돈이 모자란 관객, 여러 장을 살 만큼 가진 관객을 섞는다.
+        Random random = new Random(SEED);
+        Bag[] bags = new Bag[AUDIENCE_COUNT];
+        long initialBalance = 0;
+        for (int i = 0; i < AUDIENCE_COUNT; i++) {
+            long amount = FEE * random.nextInt(3) + random.nextInt((int) FEE);
+            bags[i] = random.nextInt(10) == 0 ? new Bag(new Invitation(), amount) : new Bag(amount);
+            initialBalance += amount;
+        }
+
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> sellers = new ArrayList<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < SELLER_COUNT; i++) {
+            Theater theater = new Theater(new TicketSeller(ticketOffice));
+            Thread seller = new Thread(() -> {
+                try {
+                    start.await();
+                    int index;
+                    while ((index = next.getAndIncrement()) < AUDIENCE_COUNT) {
+                        if (theater.enter(new Audience(bags[index]))) {
+                            sold.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            seller.start();
+            sellers.add(seller);
+        }
+        start.countDown();
+        for (Thread seller : sellers) {
+            seller.join();
+        }
+        assertTrue(failures.isEmpty(), () -> "seller failed: " + failures);
+
+        Set<Ticket> handedOut = Collections.newSetFromMap(new IdentityHashMap<>());
+        long finalBalance = 0;
+        long paid = 0;
+        for (Bag bag : bags) {
+            finalBalance += bag.getAmount();
+            Ticket ticket = bag.getTicket();
+            if (ticket != null) {
+                assertTrue(handedOut.add(ticket), "ticket handed out twice");
+                if (!bag.hasInvitation()) {
+                    paid += ticket.getFee();
+                }
+            }
+            assertTrue(bag.getAmount() >= 0, "negative balance");
+        }
+
+        Ticket left;
+        int leftCount = 0;
+        while ((left = ticketOffice.getTicket()) != null) {
+            assertFalse(handedOut.contains(left), "ticket both sold and still in the office");
+            leftCount++;
+        }
+
+        assertEquals(sold.get(), handedOut.size());
+        assertEquals(TICKET_COUNT, handedOut.size() + leftCount);
+        assertEquals(paid, ticketOffice.getAmount());
+        assertEquals(initialBalance - paid, finalBalance);
+    }
+}